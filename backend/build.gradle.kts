@@ -33,11 +33,15 @@ dependencies {
 	implementation ("org.springframework.boot:spring-boot-starter-security")
 	implementation ("org.springframework.boot:spring-boot-starter-oauth2-client")
 	implementation ("org.springframework.boot:spring-boot-starter-websocket")
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
+	implementation("com.github.ben-manes.caffeine:caffeine")
 	compileOnly("org.projectlombok:lombok")
 	runtimeOnly("com.mysql:mysql-connector-j")
 	annotationProcessor("org.projectlombok:lombok")
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+	testImplementation("org.openjdk.jmh:jmh-core:1.37")
+	testAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 	implementation("io.jsonwebtoken:jjwt-api:0.11.5")
 	runtimeOnly("io.jsonwebtoken:jjwt-impl:0.11.5")
 	runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.11.5")
@@ -46,3 +50,31 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// 실제 MySQL/Redis 가 필요한 테스트(@Tag("integration"))는 기본 test 에서 제외
+tasks.named<Test>("test") {
+	useJUnitPlatform {
+		excludeTags("integration")
+	}
+}
+
+// 통합/부하 테스트 실행, 예: ./gradlew integrationTest (application 설정의 DB/redis 에 접속)
+tasks.register<Test>("integrationTest") {
+	group = "verification"
+	description = "Runs tests tagged integration against a live MySQL and Redis"
+	testClassesDirs = sourceSets["test"].output.classesDirs
+	classpath = sourceSets["test"].runtimeClasspath
+	useJUnitPlatform {
+		includeTags("integration")
+	}
+	shouldRunAfter("test")
+}
+
+// JMH 벤치마크 실행 (src/test 의 *Benchmark 클래스), 예: ./gradlew jmh -Pjmh=TokenAuthentication
+tasks.register<JavaExec>("jmh") {
+	group = "verification"
+	description = "Runs JMH benchmarks from the test source set"
+	classpath = sourceSets["test"].runtimeClasspath
+	mainClass.set("org.openjdk.jmh.Main")
+	args(project.findProperty("jmh")?.toString() ?: ".*Benchmark.*")
+}
@@ -5,14 +5,16 @@ import com.ssafy.icethang.domain.auth.dto.request.SignupRequest;
 import com.ssafy.icethang.domain.auth.dto.request.UpdateUserRequest;
 import com.ssafy.icethang.domain.auth.dto.response.TokenResponseDto;
 import com.ssafy.icethang.domain.auth.dto.response.UserResponse;
-import com.ssafy.icethang.domain.auth.entity.Auth;
 import com.ssafy.icethang.domain.auth.service.AuthService;
 import com.ssafy.icethang.domain.student.dto.request.StudentJoinRequest;
 import com.ssafy.icethang.domain.student.dto.request.StudentLoginRequest;
 import com.ssafy.icethang.domain.student.dto.response.StudentLoginResponse;
 import com.ssafy.icethang.domain.student.service.StudentService;
+import com.ssafy.icethang.global.security.ClientIpResolver;
+import com.ssafy.icethang.global.security.LoginRateLimiter;
 import com.ssafy.icethang.global.security.UserPrincipal;
 import com.ssafy.icethang.global.utill.CookieUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -29,6 +31,8 @@ public class AuthController {
     private final AuthService authService;
     private final CookieUtil cookieUtil;
     private final StudentService studentService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final ClientIpResolver clientIpResolver;
 
     // 선생님 회원가입
     @PostMapping("/signup")
@@ -39,8 +43,7 @@ public class AuthController {
     // 선생님 회원정보 조회
     @GetMapping("/me")
     public ResponseEntity<UserResponse> getMyInfo(@AuthenticationPrincipal UserDetails userDetails) {
-        Auth auth = authService.getUser(userDetails.getUsername());
-        return ResponseEntity.ok(UserResponse.from(auth));
+        return ResponseEntity.ok(UserResponse.from(authService.getUser(userDetails.getUsername())));
     }
     // 선생님 회원정보 수정
     @PatchMapping("/me")
@@ -48,7 +51,7 @@ public class AuthController {
             @AuthenticationPrincipal UserPrincipal userPrincipal,
             @RequestBody UpdateUserRequest request) {
 
-        authService.updateUser(userPrincipal.getEmail(), request);
+        authService.updateUser(userPrincipal.getId(), userPrincipal.getEmail(), request);
         return ResponseEntity.ok("회원 정보가 수정되었습니다.");
     }
 
@@ -58,7 +61,7 @@ public class AuthController {
                                          HttpServletResponse response) { // 쿠키 구우려면 response 필요
         TokenResponseDto tokenDto = studentService.join(request);
 
-        StudentLoginResponse studentInfo = studentService.getStudentInfo(tokenDto.getAccessToken());
+        StudentLoginResponse studentInfo = studentService.getStudentInfo(request.getDeviceUuid(), tokenDto.getAccessToken());
         //cookieUtil.addTokenCookies(response, tokenDto.getAccessToken(), tokenDto.getRefreshToken());
         return ResponseEntity.ok(studentInfo);
     }
@@ -70,13 +73,16 @@ public class AuthController {
         TokenResponseDto tokenDto = studentService.autoLogin(request);
         cookieUtil.addTokenCookies(response, tokenDto.getAccessToken(), tokenDto.getRefreshToken());
 
-        return ResponseEntity.ok(studentService.getStudentInfo(tokenDto.getAccessToken()));
+        return ResponseEntity.ok(studentService.getStudentInfo(request.getDeviceUuid(), tokenDto.getAccessToken()));
     }
 
     // 선생님 로그인
     @PostMapping("/login/teacher")
     public ResponseEntity<?> login(@RequestBody LoginRequest request,
+                                   HttpServletRequest httpRequest,
                                    HttpServletResponse response) {
+        // 비밀번호 확인 전에 IP/이메일별 시도 횟수 제한
+        loginRateLimiter.check(clientIpResolver.resolve(httpRequest).orElse(null), request.getEmail());
         TokenResponseDto tokenDto = authService.login(request);
 
         // 쿠키 유틸 불러서 굽기
@@ -123,7 +129,7 @@ public class AuthController {
 
         // 이미 토큰이 만료되어서 userPrincipal이 null이면 Redis 삭제는 스킵
         if (userDetails != null && token != null) {
-            authService.logout(token, userDetails.getUsername());
+            authService.logout(token, refreshToken, userDetails.getUsername());
         }
 
         // 쿠키 삭제
@@ -0,0 +1,27 @@
+package com.ssafy.icethang.domain.auth.controller;
+
+import com.ssafy.icethang.domain.auth.dto.response.SchoolSearchResponse;
+import com.ssafy.icethang.domain.auth.service.SchoolDirectory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class SchoolSearchController {
+
+    private final SchoolDirectory schoolDirectory;
+
+    // 회원가입 학교 검색 자동완성 (로그인 전이라 인증 없음)
+    @GetMapping("/schools/search")
+    public ResponseEntity<List<SchoolSearchResponse>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(schoolDirectory.search(q, limit));
+    }
+}
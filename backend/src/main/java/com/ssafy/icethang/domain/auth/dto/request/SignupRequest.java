@@ -10,4 +10,6 @@ public class SignupRequest {
     private String password;
     private String teacherName;
     private String schoolName;
+    // 학교 검색 목록에서 고른 학교 (없으면 schoolName 으로 찾음)
+    private Integer schoolId;
 }
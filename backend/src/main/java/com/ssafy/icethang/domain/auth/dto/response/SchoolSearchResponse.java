@@ -0,0 +1,18 @@
+package com.ssafy.icethang.domain.auth.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+// 학교 검색 자동완성 항목 (지역/주소는 같은 이름 학교 구분용)
+public class SchoolSearchResponse {
+    private Integer schoolId;
+    private String schoolName;
+    private String region;
+    private String address;
+}
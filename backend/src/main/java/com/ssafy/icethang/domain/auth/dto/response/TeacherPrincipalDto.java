@@ -0,0 +1,18 @@
+package com.ssafy.icethang.domain.auth.dto.response;
+
+import com.ssafy.icethang.domain.auth.entity.AuthProvider;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// 이메일로 찾는 선생님 기본 정보 (로그인/토큰 재발급/내 정보 조회용 캐시 값)
+public class TeacherPrincipalDto {
+    private Long teacherId;
+    private String email;
+    private String password;
+    private String teacherName;
+    private Integer schoolId;
+    private AuthProvider provider;
+    private String providerId;
+}
@@ -24,4 +24,14 @@ public class UserResponse {
                 .provider(auth.getProvider().name())
                 .build();
     }
+
+    public static UserResponse from(TeacherPrincipalDto teacher) {
+        return UserResponse.builder()
+                .id(teacher.getTeacherId())
+                .email(teacher.getEmail())
+                .teacherName(teacher.getTeacherName())
+                .schoolId(teacher.getSchoolId())
+                .provider(teacher.getProvider().name())
+                .build();
+    }
 }
\ No newline at end of file
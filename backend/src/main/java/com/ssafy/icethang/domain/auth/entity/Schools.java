@@ -27,6 +27,13 @@ public class Schools {
     @Column(name = "school_name", nullable = false)
     private String schoolName;
 
+    // 나이스 학교 목록 가져오기로 채움 (같은 이름 학교 구분용)
+    @Column(name = "region", length = 20)
+    private String region;
+
+    @Column(name = "address")
+    private String address;
+
     @Builder
     public Schools(String scCode, String schoolCode, String schoolName) {
         this.scCode = scCode;
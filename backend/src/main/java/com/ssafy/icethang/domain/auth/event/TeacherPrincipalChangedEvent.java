@@ -0,0 +1,11 @@
+package com.ssafy.icethang.domain.auth.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// 선생님 정보(이름, 비밀번호, 소셜 정보)가 바뀌었을 때 발행
+public class TeacherPrincipalChangedEvent {
+    private String email;
+}
@@ -1,7 +1,11 @@
 package com.ssafy.icethang.domain.auth.repository;
 
+import com.ssafy.icethang.domain.auth.dto.response.TeacherPrincipalDto;
 import com.ssafy.icethang.domain.auth.entity.Auth;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -9,4 +13,23 @@ import java.util.Optional;
 @Repository
 public interface AuthRepository extends JpaRepository<Auth, Long> {
     Optional<Auth> findByEmail(String email);
+
+    // 선생님 소속 학교 id (학교 단위 작업 권한 확인용)
+    @Query("SELECT s.schoolId FROM Auth a JOIN a.school s WHERE a.id = :teacherId")
+    Optional<Integer> findSchoolIdById(@Param("teacherId") Long teacherId);
+
+    boolean existsByEmail(String email);
+
+    // 로그인/인증용 기본 정보만 (엔티티/학교 로딩 없이)
+    @Query("SELECT new com.ssafy.icethang.domain.auth.dto.response.TeacherPrincipalDto(" +
+            "a.id, a.email, a.password, a.teacherName, s.schoolId, a.provider, a.providerId) " +
+            "FROM Auth a LEFT JOIN a.school s WHERE a.email = :email")
+    Optional<TeacherPrincipalDto> findPrincipalByEmail(@Param("email") String email);
+
+    // 회원정보 수정 (조회 없이 바로 변경, null 인 항목은 그대로)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Auth a SET a.teacherName = COALESCE(:teacherName, a.teacherName), " +
+            "a.password = COALESCE(:password, a.password), a.updatedAt = CURRENT_TIMESTAMP " +
+            "WHERE a.id = :id")
+    int updateProfile(@Param("id") Long id, @Param("teacherName") String teacherName, @Param("password") String password);
 }
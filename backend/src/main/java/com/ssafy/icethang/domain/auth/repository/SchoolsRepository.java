@@ -9,4 +9,6 @@ import java.util.Optional;
 @Repository
 public interface SchoolsRepository extends JpaRepository<Schools, Integer> {
     Optional<Schools> findBySchoolName(String schoolName);
+
+    Optional<Schools> findByScCodeAndSchoolCode(String scCode, String schoolCode);
 }
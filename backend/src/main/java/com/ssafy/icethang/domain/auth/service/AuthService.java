@@ -3,23 +3,29 @@ package com.ssafy.icethang.domain.auth.service;
 import com.ssafy.icethang.domain.auth.dto.request.LoginRequest;
 import com.ssafy.icethang.domain.auth.dto.request.SignupRequest;
 import com.ssafy.icethang.domain.auth.dto.request.UpdateUserRequest;
+import com.ssafy.icethang.domain.auth.dto.response.SchoolSearchResponse;
+import com.ssafy.icethang.domain.auth.dto.response.TeacherPrincipalDto;
 import com.ssafy.icethang.domain.auth.dto.response.TokenResponseDto;
 import com.ssafy.icethang.domain.auth.entity.Auth;
 import com.ssafy.icethang.domain.auth.entity.AuthProvider;
 import com.ssafy.icethang.domain.auth.entity.Schools;
+import com.ssafy.icethang.domain.auth.event.TeacherPrincipalChangedEvent;
 import com.ssafy.icethang.domain.auth.repository.AuthRepository;
 import com.ssafy.icethang.domain.auth.repository.SchoolsRepository;
+import com.ssafy.icethang.global.exception.BadRequestException;
 import com.ssafy.icethang.global.exception.DuplicateResourceException;
 import com.ssafy.icethang.global.exception.ResourceNotFoundException;
-import com.ssafy.icethang.global.redis.RedisService;
 import com.ssafy.icethang.global.security.CustomUserDetailsService;
+import com.ssafy.icethang.global.security.RefreshTokenService;
 import com.ssafy.icethang.global.security.TokenProvider;
+import com.ssafy.icethang.global.security.UserPrincipal;
 import com.ssafy.icethang.global.security.oauth2.auth.KakaoOAuth2UserInfo;
 import com.ssafy.icethang.global.security.oauth2.auth.NaverOAuth2UserInfo;
 import com.ssafy.icethang.global.security.oauth2.auth.OAuth2UserInfo;
 import com.ssafy.icethang.global.utill.NeisApiService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -32,33 +38,38 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
+    // 이름이 정확히 한 곳과 맞지 않을 때 안내하는 후보 수
+    private static final int SCHOOL_CANDIDATES = 5;
+
     private final AuthRepository authRepository;
     private final PasswordEncoder passwordEncoder;
     private final TokenProvider tokenProvider;
     private final AuthenticationManager authenticationManager;
-    private final RedisService redisService;
+    private final RefreshTokenService refreshTokenService;
     private final NeisApiService niceApiService;
     private final SchoolsRepository schoolsRepository;
     private final CustomUserDetailsService customUserDetailsService;
+    private final TeacherPrincipalCache teacherPrincipalCache;
+    private final SchoolDirectory schoolDirectory;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public String signup(SignupRequest request){
         // 이메일 중복 검사
-        if(authRepository.findByEmail(request.getEmail()).isPresent()){
+        if(authRepository.existsByEmail(request.getEmail())){
             throw new DuplicateResourceException("이미 가입된 이메일입니다.");
         }
 
-        // 학교 정보 처리 (DB -> 없으면 nice API 호출)
-        Schools school = schoolsRepository.findBySchoolName(request.getSchoolName())
-                .orElseGet(() -> {
-                    return niceApiService.searchAndSaveSchool(request.getSchoolName());
-                });
+        // 학교 정보 처리
+        Schools school = resolveSchool(request);
 
         // 비밀번호 암호화
         String encodedPassword = passwordEncoder.encode(request.getPassword());
@@ -75,6 +86,50 @@ public class AuthService {
         return auth.getEmail();
     }
 
+    // 검색 목록에서 고른 학교 id -> 학교 목록에서 이름이 정확히 같은 한 곳 -> 목록을 아직 못 가져왔을 때만 나이스 호출
+    // 학교 소속으로 대시보드/보고서 권한이 정해지므로 같은 이름 여러 곳이나 비슷한 이름은 고르지 않고 후보를 알려줌
+    private Schools resolveSchool(SignupRequest request) {
+        if (request.getSchoolId() != null) {
+            return schoolsRepository.findById(request.getSchoolId())
+                    .orElseThrow(() -> new ResourceNotFoundException("학교 정보를 찾을 수 없습니다."));
+        }
+        String schoolName = request.getSchoolName();
+        if (schoolName == null || schoolName.isBlank()) {
+            throw new BadRequestException("소속 학교를 입력해주세요.");
+        }
+
+        List<SchoolSearchResponse> matched = schoolDirectory.findByName(schoolName);
+        if (matched.size() == 1) {
+            return schoolsRepository.getReferenceById(matched.get(0).getSchoolId());
+        }
+        if (matched.size() > 1) {
+            throw new BadRequestException("같은 이름의 학교가 여러 곳입니다. 검색 목록에서 학교를 선택해주세요: "
+                    + describeCandidates(matched));
+        }
+        if (schoolDirectory.isImported()) {
+            // "싸피초" -> "서울싸피초등학교" 같은 부분 일치/오타는 후보만 알려줌
+            List<SchoolSearchResponse> similar = schoolDirectory.search(schoolName, SCHOOL_CANDIDATES);
+            if (!similar.isEmpty()) {
+                throw new BadRequestException("이름이 정확히 같은 학교가 없습니다. 검색 목록에서 학교를 선택해주세요: "
+                        + describeCandidates(similar));
+            }
+            throw new ResourceNotFoundException("학교 정보를 찾을 수 없습니다.");
+        }
+        return schoolsRepository.findBySchoolName(schoolName)
+                .orElseGet(() -> niceApiService.searchAndSaveSchool(schoolName));
+    }
+
+    // 예: 중앙초등학교(서울특별시 중구 ...), 중앙초등학교(부산광역시 ...)
+    private static String describeCandidates(List<SchoolSearchResponse> schools) {
+        return String.join(", ", schools.stream()
+                .limit(SCHOOL_CANDIDATES)
+                .map(school -> {
+                    String where = school.getAddress() != null ? school.getAddress() : school.getRegion();
+                    return where == null ? school.getSchoolName() : school.getSchoolName() + "(" + where + ")";
+                })
+                .toList());
+    }
+
     public TokenResponseDto login(LoginRequest request) {
         UsernamePasswordAuthenticationToken authenticationToken =
                 new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword());
@@ -83,14 +138,8 @@ public class AuthService {
         Authentication authentication = authenticationManager.authenticate(authenticationToken);
 
         String accessToken = tokenProvider.createToken(authentication);
-        String refreshToken = tokenProvider.createRefreshToken(authentication);
-
-        // 리프레시 토큰 redis에 저장
-        redisService.setValues(
-                request.getEmail(),
-                refreshToken,
-                Duration.ofDays(7)
-        );
+        // 리프레시 토큰 redis에 저장 (기기별 family)
+        String refreshToken = refreshTokenService.issue(authentication);
 
         return TokenResponseDto.builder()
                 .accessToken(accessToken)
@@ -101,33 +150,19 @@ public class AuthService {
 
     // 토큰 재발급
     public TokenResponseDto reissue(String refreshToken) {
-        // Refresh Token 검증
-        if (!tokenProvider.validateToken(refreshToken)) {
-            throw new RuntimeException("Refresh Token이 유효하지 않습니다.");
-        }
-
-        // Refresh Token에서 이메일 가져오기
-        String email = tokenProvider.getEmailFromToken(refreshToken);
-
-        // Redis에서 저장된 Refresh Token 가져오기
-        String redisRefreshToken = redisService.getValues(email);
-        if (redisRefreshToken == null || !redisRefreshToken.equals(refreshToken)) {
-            throw new RuntimeException("토큰의 유저 정보가 일치하지 않습니다.");
-        }
+        // Refresh Token 검증 + 클레임 해석 (한 번만 파싱)
+        TokenProvider.RefreshClaims claims = tokenProvider.parseRefreshToken(refreshToken);
 
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
+        UserDetails userDetails = customUserDetailsService.loadUserByUsername(claims.subject());
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 userDetails,
                 null,
                 userDetails.getAuthorities()
         );
 
-        // 새로운 토큰 생성
+        // 새로운 토큰 생성 + Redis 비교/교체 (재사용된 토큰이면 예외)
+        String newRefreshToken = refreshTokenService.rotate(claims, authentication);
         String newAccessToken = tokenProvider.createToken(authentication);
-        String newRefreshToken = tokenProvider.createRefreshToken(authentication);
-
-        // Redis 업데이트
-        redisService.setValues(email, newRefreshToken, Duration.ofDays(7));
 
         return TokenResponseDto.builder()
                 .accessToken(newAccessToken)
@@ -135,40 +170,38 @@ public class AuthService {
                 .build();
     }
 
-    // 회원정보 조회
-    @Transactional
-    public Auth getUser(String email) {
-        return authRepository.findByEmail(email)
+    // 회원정보 조회 (캐시)
+    public TeacherPrincipalDto getUser(String email) {
+        return teacherPrincipalCache.get(email)
                 .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다."));
     }
 
-    // 회원정보 수정
+    // 회원정보 수정 (UPDATE 한 번, 커밋 후 캐시 무효화)
     @Transactional
-    public void updateUser(String email, UpdateUserRequest request) {
-        Auth auth = authRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다."));
+    public void updateUser(Long teacherId, String email, UpdateUserRequest request) {
+        // 비밀번호 변경 요청
+        String encodedPassword = request.getPassword() != null
+                ? passwordEncoder.encode(request.getPassword())
+                : null;
 
         // 이름 변경 요청
-        if (request.getTeacherName() != null) {
-            auth.setTeacherName(request.getTeacherName());
+        if (request.getTeacherName() == null && encodedPassword == null) {
+            return;
         }
-
-        // 비밀번호 변경 요청
-        if (request.getPassword() != null) {
-            auth.setPassword(passwordEncoder.encode(request.getPassword()));
+        if (authRepository.updateProfile(teacherId, request.getTeacherName(), encodedPassword) == 0) {
+            throw new ResourceNotFoundException("유저를 찾을 수 없습니다.");
         }
+        eventPublisher.publishEvent(new TeacherPrincipalChangedEvent(email));
     }
 
     // 로그아웃
     @Transactional
-    public void logout(String accessToken, String email){
-        // redis 삭제
-        if(redisService.getValues(email) != null){
-            redisService.deleteValues(email);
-        }
+    public void logout(String accessToken, String refreshToken, String email){
+        // redis 삭제 (이 기기의 리프레시 토큰만)
+        refreshTokenService.revoke(email, refreshToken);
 
-        Long expiration = tokenProvider.getExpiration(accessToken);
-        redisService.setValues(accessToken, "logout", Duration.ofMillis(expiration));
+        // 액세스 토큰은 남은 수명 동안 폐기 목록에 등록
+        tokenProvider.revoke(accessToken);
     }
 
     //소셜 로그인 처리 (카카오 & 네이버 공통)
@@ -176,8 +209,14 @@ public class AuthService {
     public TokenResponseDto processSocialLogin(String registrationId, String socialAccessToken) {
         OAuth2UserInfo userInfo = fetchUserInfoFromProvider(registrationId, socialAccessToken);
 
+        // 이미 가입되어 있고 소셜 정보도 그대로면 엔티티 조회/저장 없이 발급
+        Optional<TeacherPrincipalDto> cached = teacherPrincipalCache.get(userInfo.getEmail());
+        if (cached.isPresent() && Objects.equals(cached.get().getTeacherName(), userInfo.getName())) {
+            return createTokenResponse(UserPrincipal.create(cached.get()));
+        }
+
         Auth auth = saveOrUpdate(registrationId, userInfo);
-        return createTokenResponse(auth);
+        return createTokenResponse(UserPrincipal.create(auth));
     }
 
     // 제공자별 API 호출 및 파싱
@@ -202,16 +241,13 @@ public class AuthService {
     }
 
     // JWT 발급 및 인증 처리
-    private TokenResponseDto createTokenResponse(Auth auth) {
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(auth.getEmail());
+    private TokenResponseDto createTokenResponse(UserPrincipal userPrincipal) {
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                userDetails, null, userDetails.getAuthorities()
+                userPrincipal, null, userPrincipal.getAuthorities()
         );
 
         String accessToken = tokenProvider.createToken(authentication);
-        String refreshToken = tokenProvider.createRefreshToken(authentication);
-
-        redisService.setValues(auth.getEmail(), refreshToken, Duration.ofDays(7));
+        String refreshToken = refreshTokenService.issue(authentication);
 
         return TokenResponseDto.builder()
                 .accessToken(accessToken)
@@ -222,8 +258,12 @@ public class AuthService {
     private Auth saveOrUpdate(String registrationId, OAuth2UserInfo userInfo) {
         return authRepository.findByEmail(userInfo.getEmail())
                 .map(auth -> {
-                    auth.setTeacherName(userInfo.getName());
-                    return authRepository.save(auth);
+                    // 소셜 정보가 바뀐 경우에만 저장
+                    if (!Objects.equals(auth.getTeacherName(), userInfo.getName())) {
+                        auth.setTeacherName(userInfo.getName());
+                        eventPublisher.publishEvent(new TeacherPrincipalChangedEvent(auth.getEmail()));
+                    }
+                    return auth;
                 })
                 .orElseGet(() -> {
                     Schools defaultSchool = schoolsRepository.findById(1)
@@ -1,11 +1,14 @@
 package com.ssafy.icethang.domain.auth.service;
 
+import com.ssafy.icethang.domain.auth.dto.response.TeacherPrincipalDto;
 import com.ssafy.icethang.domain.auth.entity.Auth;
 import com.ssafy.icethang.domain.auth.entity.AuthProvider;
+import com.ssafy.icethang.domain.auth.event.TeacherPrincipalChangedEvent;
 import com.ssafy.icethang.domain.auth.repository.AuthRepository;
 import com.ssafy.icethang.global.security.UserPrincipal;
 import com.ssafy.icethang.global.security.oauth2.auth.OAuth2UserInfo;
 import com.ssafy.icethang.global.security.oauth2.auth.OAuth2UserInfoFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -18,6 +21,7 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -25,6 +29,8 @@ import java.util.Optional;
 @Slf4j
 public class CustomOAuth2UserService extends DefaultOAuth2UserService{
     private final AuthRepository authRepository;
+    private final TeacherPrincipalCache teacherPrincipalCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -57,6 +63,13 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService{
                     "Email not found from OAuth2 provider", null);
         }
 
+        // 기존 회원이고 소셜 정보가 그대로면 DB 조회/저장 없이 바로 로그인
+        AuthProvider provider = AuthProvider.valueOf(registrationId.toUpperCase());
+        Optional<TeacherPrincipalDto> cached = teacherPrincipalCache.get(userInfo.getEmail());
+        if (cached.isPresent() && cached.get().getProvider() == provider && !isChanged(cached.get(), userInfo)) {
+            return UserPrincipal.create(cached.get(), attributes);
+        }
+
         // 이메일로 DB 조회(기존 회원인지 검증)
         Optional<Auth> authOptional = authRepository.findByEmail(userInfo.getEmail());
         Auth auth;
@@ -65,7 +78,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService{
             auth = authOptional.get();
 
             // 다른 소셜로 가입된 이메일인지 체크(provider가 다른지 확인)
-            if (auth.getProvider() != AuthProvider.valueOf(registrationId.toUpperCase())) {
+            if (auth.getProvider() != provider) {
                 throw new OAuth2AuthenticationException(new OAuth2Error("invalid_provider"),
                         "Looks like you're signed up with " + auth.getProvider() + " account. Please use your " + auth.getProvider() + " account to login.",
                         null
@@ -100,9 +113,26 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService{
         return authRepository.save(auth);
     }
 
-    // 로그인할때마다 최신 소셜 정보 가져와서 db 저장하기
+    // 최신 소셜 정보와 다를 때만 db 저장하기
     private Auth updateExistingUser(Auth existingAuth, OAuth2UserInfo userInfo) {
-        existingAuth.setTeacherName(userInfo.getName());
+        boolean changed = false;
+        if (!Objects.equals(existingAuth.getTeacherName(), userInfo.getName())) {
+            existingAuth.setTeacherName(userInfo.getName());
+            changed = true;
+        }
+        if (userInfo.getId() != null && !Objects.equals(existingAuth.getProviderId(), userInfo.getId())) {
+            existingAuth.setProviderId(userInfo.getId());
+            changed = true;
+        }
+        if (!changed) {
+            return existingAuth;
+        }
+        eventPublisher.publishEvent(new TeacherPrincipalChangedEvent(existingAuth.getEmail()));
         return authRepository.save(existingAuth);
     }
+
+    private boolean isChanged(TeacherPrincipalDto teacher, OAuth2UserInfo userInfo) {
+        return !Objects.equals(teacher.getTeacherName(), userInfo.getName())
+                || (userInfo.getId() != null && !Objects.equals(teacher.getProviderId(), userInfo.getId()));
+    }
 }
@@ -0,0 +1,65 @@
+package com.ssafy.icethang.domain.auth.service;
+
+import com.ssafy.icethang.domain.auth.dto.response.SchoolSearchResponse;
+import com.ssafy.icethang.domain.auth.repository.SchoolsRepository;
+import com.ssafy.icethang.global.redis.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 전국 학교 목록 검색 (schools 테이블 전체를 메모리 색인으로, 검색 때 DB/나이스 호출 없음)
+// 목록 가져오기가 끝나면 pub/sub 으로 모든 서버가 다시 읽음
+public class SchoolDirectory {
+
+    private static final String CHANNEL_NAME = "school-directory";
+    // 나이스 학교 목록을 한 번이라도 가져왔다고 볼 최소 학교 수 (전국 약 1.2만 곳)
+    private static final int IMPORTED_MIN_SIZE = 1_000;
+    private static final int MAX_LIMIT = 20;
+
+    private final SchoolsRepository schoolsRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private volatile SchoolNameIndex index = SchoolNameIndex.EMPTY;
+
+    @PostConstruct
+    void init() {
+        cacheInvalidationBus.register(CHANNEL_NAME, message -> reload());
+        reload();
+    }
+
+    // 가입 중 나이스로 새로 저장된 학교도 반영되도록 주기적으로 다시 읽음
+    @Scheduled(fixedDelay = 10 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    public void reload() {
+        SchoolNameIndex next = new SchoolNameIndex(schoolsRepository.findAll());
+        index = next;
+        log.info("학교 검색 색인 갱신: {}곳", next.size());
+    }
+
+    // 내 서버는 바로, 다른 서버는 pub/sub 으로
+    public void reloadEverywhere() {
+        reload();
+        cacheInvalidationBus.publish(CHANNEL_NAME, "reload");
+    }
+
+    // 자동완성 (limit 은 1~20)
+    public List<SchoolSearchResponse> search(String query, int limit) {
+        return index.search(query, Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    // 이름이 정확히 같은 학교 (띄어쓰기 무시, 같은 이름 학교가 여러 곳일 수 있음)
+    public List<SchoolSearchResponse> findByName(String schoolName) {
+        return index.findByName(schoolName);
+    }
+
+    // 나이스 학교 목록을 가져온 상태인지 (아니면 가입 시 기존처럼 나이스 조회)
+    public boolean isImported() {
+        return index.size() >= IMPORTED_MIN_SIZE;
+    }
+}
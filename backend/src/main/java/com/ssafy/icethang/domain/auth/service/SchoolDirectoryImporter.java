@@ -0,0 +1,118 @@
+package com.ssafy.icethang.domain.auth.service;
+
+import com.ssafy.icethang.global.neis.NeisSchoolRow;
+import com.ssafy.icethang.global.utill.NeisApiService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 나이스 학교 기본정보 전체를 schools 테이블로 가져오기 (주 1회, 목록이 비어 있으면 서버 시작 때도)
+// 여러 서버가 동시에 돌지 않도록 가져오는 동안 redis 락을 잡고, 못 잡은 서버는 기다리지 않고 건너뜀
+// 최근 가져온 시각(redis)이 있으면 락을 잡아도 건너뜀
+public class SchoolDirectoryImporter {
+
+    private static final String IMPORTED_AT_KEY = "school:directory:imported-at";
+    // 주 1회 실행이므로 그보다 조금 짧게 (다음 주 실행은 다시 가져옴)
+    private static final Duration IMPORTED_TTL = Duration.ofDays(6);
+    private static final String IMPORT_LOCK_KEY = "school:directory:import-lock";
+    // 나이스 50페이지 + 저장이 몇 분이면 끝나므로 넉넉하게, 서버가 죽어도 이 시간 뒤에는 다른 서버가 가져옴
+    private static final Duration IMPORT_LOCK_TTL = Duration.ofMinutes(30);
+    // 내가 잡은 락일 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+    private static final String UPSERT_SQL = """
+            INSERT INTO schools (sc_code, school_code, school_name, region, address) VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE school_name = VALUES(school_name), region = VALUES(region), address = VALUES(address)
+            """;
+    private static final int BATCH_SIZE = 1_000;
+
+    private final NeisApiService neisApiService;
+    private final SchoolDirectory schoolDirectory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService schoolImportExecutor;
+
+    // 처음 배포한 서버 등 아직 학교 목록이 없으면 바로 가져옴 (시작 스레드를 막지 않도록 별도 스레드에서)
+    @EventListener(ApplicationReadyEvent.class)
+    public void importIfEmpty() {
+        if (!schoolDirectory.isImported()) {
+            schoolImportExecutor.execute(this::importAll);
+        }
+    }
+
+    @Scheduled(cron = "0 30 3 * * MON", zone = "Asia/Seoul")
+    public void importAll() {
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(IMPORT_LOCK_KEY, token, IMPORT_LOCK_TTL))) {
+                log.info("다른 서버가 학교 목록을 가져오는 중이라 건너뜀");
+                return;
+            }
+        } catch (Exception e) {
+            // redis 없이 여러 서버가 같이 가져오지 않도록 건너뜀, 다음 실행 때 다시
+            log.warn("학교 목록 가져오기 락 획득 실패", e);
+            return;
+        }
+
+        try {
+            importIfStale();
+        } catch (Exception e) {
+            // 기존 목록으로 계속 검색 가능, 다음 실행 때 다시
+            log.warn("학교 목록 가져오기 실패", e);
+        } finally {
+            release(token);
+        }
+    }
+
+    private void importIfStale() {
+        // 방금 다른 서버가 가져왔으면 건너뜀
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(IMPORTED_AT_KEY))) {
+            return;
+        }
+
+        List<Object[]> rows = neisApiService.fetchSchoolDirectory().stream()
+                .filter(SchoolDirectoryImporter::isComplete)
+                .map(row -> new Object[]{row.scCode(), row.schoolCode(), row.schoolName().trim(), row.region(), row.address()})
+                .toList();
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+
+        stringRedisTemplate.opsForValue().set(IMPORTED_AT_KEY, Instant.now().toString(), IMPORTED_TTL);
+        schoolDirectory.reloadEverywhere();
+        log.info("학교 목록 가져오기 완료: {}곳", rows.size());
+    }
+
+    private void release(String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE, List.of(IMPORT_LOCK_KEY), token);
+        } catch (Exception e) {
+            // TTL 이 지나면 풀림
+            log.warn("학교 목록 가져오기 락 해제 실패", e);
+        }
+    }
+
+    private static boolean isComplete(NeisSchoolRow row) {
+        return row.scCode() != null && row.schoolCode() != null
+                && row.schoolName() != null && !row.schoolName().isBlank();
+    }
+}
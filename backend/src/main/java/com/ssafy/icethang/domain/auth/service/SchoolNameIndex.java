@@ -0,0 +1,224 @@
+package com.ssafy.icethang.domain.auth.service;
+
+import com.ssafy.icethang.domain.auth.dto.response.SchoolSearchResponse;
+import com.ssafy.icethang.domain.auth.entity.Schools;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+// 학교 이름 검색 색인 (만든 뒤에는 바뀌지 않음, 학교 목록이 바뀌면 새로 만들어 통째로 교체)
+// 정렬된 이름 배열로 앞부분 일치, 두 글자 조각(bigram) -> 학교 위치 목록으로 중간 일치/오타 허용 검색
+final class SchoolNameIndex {
+
+    static final SchoolNameIndex EMPTY = new SchoolNameIndex(List.of());
+
+    // 오타 허용 검색에서 검색어 조각 중 이 비율 이상 겹쳐야 후보
+    private static final double FUZZY_MIN_OVERLAP = 0.6;
+
+    private record Entry(SchoolSearchResponse school, String key) {
+    }
+
+    private final Entry[] entries;
+    private final String[] keys;
+    private final Map<Integer, int[]> postings;
+
+    SchoolNameIndex(List<Schools> schools) {
+        this.entries = schools.stream()
+                .map(school -> new Entry(SchoolSearchResponse.builder()
+                        .schoolId(school.getSchoolId())
+                        .schoolName(school.getSchoolName())
+                        .region(school.getRegion())
+                        .address(school.getAddress())
+                        .build(), normalize(school.getSchoolName())))
+                .filter(entry -> !entry.key().isEmpty())
+                .sorted(Comparator.comparing(Entry::key).thenComparing(entry -> entry.school().getSchoolId()))
+                .toArray(Entry[]::new);
+        this.keys = Arrays.stream(entries).map(Entry::key).toArray(String[]::new);
+
+        Map<Integer, List<Integer>> positions = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            for (int bigram : bigrams(keys[i])) {
+                positions.computeIfAbsent(bigram, k -> new ArrayList<>()).add(i);
+            }
+        }
+        Map<Integer, int[]> built = new HashMap<>(positions.size() * 2);
+        positions.forEach((bigram, list) -> built.put(bigram, list.stream().mapToInt(Integer::intValue).toArray()));
+        this.postings = built;
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    /**
+     * 완전 일치 -> 앞부분 일치 -> 중간 일치 -> 오타 허용 순으로 limit 개까지
+     * 같은 단계 안에서는 짧은 이름, 이름 순
+     */
+    List<SchoolSearchResponse> search(String query, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Set<Integer> found = new LinkedHashSet<>();
+        collectPrefix(q, limit, found);
+        if (found.size() < limit && q.length() >= 2) {
+            collectContains(q, limit, found);
+        }
+        if (found.size() < limit && q.length() >= 3) {
+            collectFuzzy(q, limit, found);
+        }
+        return found.stream().map(i -> entries[i].school()).toList();
+    }
+
+    // 이름이 정확히 같은 학교 (띄어쓰기 무시)
+    List<SchoolSearchResponse> findByName(String name) {
+        String q = normalize(name);
+        List<SchoolSearchResponse> result = new ArrayList<>();
+        for (int i = lowerBound(q); i < keys.length && keys[i].equals(q); i++) {
+            result.add(entries[i].school());
+        }
+        return result;
+    }
+
+    // 이름 순으로 정렬되어 있으므로 완전 일치가 앞부분 일치 구간의 맨 앞에 옴
+    private void collectPrefix(String q, int limit, Set<Integer> found) {
+        List<Integer> matched = new ArrayList<>();
+        for (int i = lowerBound(q); i < keys.length && keys[i].startsWith(q); i++) {
+            matched.add(i);
+        }
+        matched.sort(byLength());
+        addUpTo(matched, limit, found);
+    }
+
+    // 검색어 조각이 모두 들어있는 학교 중 실제로 검색어를 포함하는 것만
+    private void collectContains(String q, int limit, Set<Integer> found) {
+        int[] candidates = null;
+        for (int bigram : sortedByPostingSize(bigrams(q))) {
+            int[] list = postings.get(bigram);
+            if (list == null) {
+                return;
+            }
+            candidates = candidates == null ? list : intersect(candidates, list);
+            if (candidates.length == 0) {
+                return;
+            }
+        }
+        List<Integer> matched = new ArrayList<>();
+        for (int i : candidates) {
+            if (!found.contains(i) && keys[i].contains(q)) {
+                matched.add(i);
+            }
+        }
+        matched.sort(byLength());
+        addUpTo(matched, limit, found);
+    }
+
+    // 한두 글자 틀리거나 빠진 검색어 (겹치는 조각 수가 많은 순)
+    private void collectFuzzy(String q, int limit, Set<Integer> found) {
+        int[] queryBigrams = bigrams(q);
+        int required = (int) Math.ceil(queryBigrams.length * FUZZY_MIN_OVERLAP);
+        int[] hits = new int[entries.length];
+        List<Integer> matched = new ArrayList<>();
+        for (int bigram : queryBigrams) {
+            int[] list = postings.get(bigram);
+            if (list == null) {
+                continue;
+            }
+            for (int i : list) {
+                if (++hits[i] == required && !found.contains(i)) {
+                    matched.add(i);
+                }
+            }
+        }
+        matched.sort(Comparator.comparingInt((Integer i) -> -hits[i]).thenComparing(byLength()));
+        addUpTo(matched, limit, found);
+    }
+
+    private Comparator<Integer> byLength() {
+        return Comparator.comparingInt((Integer i) -> keys[i].length()).thenComparingInt(i -> i);
+    }
+
+    private static void addUpTo(List<Integer> matched, int limit, Set<Integer> found) {
+        for (int i : matched) {
+            if (found.size() >= limit) {
+                return;
+            }
+            found.add(i);
+        }
+    }
+
+    private int lowerBound(String q) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(q) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // 짧은 목록부터 교집합을 구해야 빨리 줄어듦
+    private int[] sortedByPostingSize(int[] bigrams) {
+        return Arrays.stream(bigrams)
+                .boxed()
+                .sorted(Comparator.comparingInt(bigram -> {
+                    int[] list = postings.get(bigram);
+                    return list == null ? 0 : list.length;
+                }))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    // 같은 이름 안에서 중복 없는 두 글자 조각 (두 글자를 int 하나로)
+    private static int[] bigrams(String key) {
+        if (key.length() < 2) {
+            return new int[0];
+        }
+        return IntStream.range(0, key.length() - 1)
+                .map(i -> (key.charAt(i) << 16) | key.charAt(i + 1))
+                .distinct()
+                .toArray();
+    }
+
+    // 띄어쓰기 제거, 영문 소문자, 맥 등에서 자모가 분리되어 들어온 한글(NFD)도 같은 키로
+    static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        return Normalizer.normalize(name, Normalizer.Form.NFC)
+                .replaceAll("\\s+", "")
+                .toLowerCase();
+    }
+}
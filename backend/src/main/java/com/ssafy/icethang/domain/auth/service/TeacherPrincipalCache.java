@@ -0,0 +1,54 @@
+package com.ssafy.icethang.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.icethang.domain.auth.dto.response.TeacherPrincipalDto;
+import com.ssafy.icethang.domain.auth.event.TeacherPrincipalChangedEvent;
+import com.ssafy.icethang.domain.auth.repository.AuthRepository;
+import com.ssafy.icethang.global.redis.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+// 이메일 -> 선생님 기본 정보 캐시 (서버 로컬)
+// 비밀번호 해시가 들어 있어서 redis 에는 두지 않고, 변경 시 pub/sub 으로 모든 서버에서 삭제
+public class TeacherPrincipalCache {
+
+    private static final String CACHE_NAME = "teacher-principal";
+
+    private final AuthRepository authRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final Cache<String, TeacherPrincipalDto> localCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    @PostConstruct
+    void init() {
+        cacheInvalidationBus.register(CACHE_NAME, localCache::invalidate);
+    }
+
+    // 캐시 -> DB 순서로 조회, 없는(탈퇴한) 선생님이면 empty
+    public Optional<TeacherPrincipalDto> get(String email) {
+        TeacherPrincipalDto cached = localCache.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<TeacherPrincipalDto> loaded = authRepository.findPrincipalByEmail(email);
+        loaded.ifPresent(value -> localCache.put(email, value));
+        return loaded;
+    }
+
+    // 정보 수정이 커밋된 뒤 무효화
+    @TransactionalEventListener
+    public void onPrincipalChanged(TeacherPrincipalChangedEvent event) {
+        cacheInvalidationBus.publish(CACHE_NAME, event.getEmail());
+    }
+}
@@ -1,8 +1,12 @@
 package com.ssafy.icethang.domain.classgroup.repository;
 
 import com.ssafy.icethang.domain.classgroup.entity.ClassGroup;
+import com.ssafy.icethang.domain.timetable.dto.response.TimetablePrefetchTarget;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,6 +15,33 @@ public interface ClassGroupRepository extends JpaRepository<ClassGroup, Long>{
     // 선생님이 만든 반 조회
     List<ClassGroup> findAllByTeacherId(Long teacherId);
 
+    // 선생님 반 id 목록 (소켓 연결 시 권한 확인용)
+    @Query("SELECT g.id FROM ClassGroup g WHERE g.teacher.id = :teacherId")
+    List<Long> findIdsByTeacherId(@Param("teacherId") Long teacherId);
+
+    boolean existsByIdAndTeacherId(Long id, Long teacherId);
+
+    // 학교 전체 반 조회 (학교 대시보드)
+    List<ClassGroup> findAllByTeacher_School_SchoolId(Integer schoolId);
+
+    // 시간표 받아오기 대상 (반 + 소속 학교 나이스 코드)
+    String PREFETCH_TARGET_SELECT = "SELECT new com.ssafy.icethang.domain.timetable.dto.response.TimetablePrefetchTarget(" +
+            "g.id, g.grade, g.classNum, s.schoolId, s.scCode, s.schoolCode) " +
+            "FROM ClassGroup g JOIN g.teacher t JOIN t.school s ";
+
+    @Query(PREFETCH_TARGET_SELECT)
+    List<TimetablePrefetchTarget> findTimetablePrefetchTargets();
+
+    @Query(PREFETCH_TARGET_SELECT + "WHERE s.schoolId = :schoolId")
+    List<TimetablePrefetchTarget> findTimetablePrefetchTargetsBySchoolId(@Param("schoolId") Integer schoolId);
+
+    @Query(PREFETCH_TARGET_SELECT + "WHERE g.id = :groupId")
+    Optional<TimetablePrefetchTarget> findTimetablePrefetchTarget(@Param("groupId") Long groupId);
+
+    // 시간표 저장 전 반 잠금 (같은 반 시간표를 동시에 채우지 않도록, id 순서)
+    @Query(value = "SELECT group_id FROM class_groups WHERE group_id IN (:ids) ORDER BY group_id FOR UPDATE", nativeQuery = true)
+    List<Long> lockAllByIdIn(@Param("ids") Collection<Long> ids);
+
     // 학생이 반 찾기
     Optional<ClassGroup> findByInviteCode(String inviteCode);
 
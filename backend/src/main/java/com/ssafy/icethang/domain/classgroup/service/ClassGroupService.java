@@ -11,15 +11,19 @@ import com.ssafy.icethang.domain.classgroup.repository.ClassGroupRepository;
 import com.ssafy.icethang.domain.student.dto.request.StudentUpdateRequest;
 import com.ssafy.icethang.domain.student.dto.response.StudentDetailResponse;
 import com.ssafy.icethang.domain.student.entity.Student;
+import com.ssafy.icethang.domain.student.event.StudentPrincipalChangedEvent;
+import com.ssafy.icethang.domain.student.event.StudentRemovedEvent;
 import com.ssafy.icethang.domain.student.repository.StudentRepository;
 import com.ssafy.icethang.global.exception.BadRequestException;
 import com.ssafy.icethang.global.exception.ForbiddenException;
 import com.ssafy.icethang.global.exception.ResourceNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
 import java.util.stream.Collectors;
 
@@ -31,6 +35,7 @@ public class ClassGroupService {
     private final ClassGroupRepository classGroupRepository;
     private final StudentRepository studentRepository;
     private final AuthRepository teacherRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final Random random = new Random();
 
@@ -104,6 +109,10 @@ public class ClassGroupService {
         }
 
         classGroup.updateClassInfo(request.getGrade(), request.getClassNum());
+
+        // 학년/반이 바뀌었으므로 반 학생들의 로그인 정보 캐시 무효화
+        eventPublisher.publishEvent(new StudentPrincipalChangedEvent(
+                studentRepository.findAllByClassGroupId(classId).stream().map(Student::getDeviceUuid).toList()));
     }
 
     // 반 삭제
@@ -121,6 +130,13 @@ public class ClassGroupService {
         studentRepository.deleteAll(students);
 
         classGroupRepository.delete(classGroup);
+
+        // 리더보드 등 후처리 (커밋 이후 실행)
+        Integer schoolId = students.stream().map(Student::getSchoolId).filter(Objects::nonNull).findFirst().orElse(null);
+        eventPublisher.publishEvent(new StudentRemovedEvent(classId, schoolId,
+                students.stream().map(Student::getId).collect(Collectors.toList()), true));
+        eventPublisher.publishEvent(new StudentPrincipalChangedEvent(
+                students.stream().map(Student::getDeviceUuid).toList()));
     }
 
     //---------------------------------------------------------------------------
@@ -149,6 +165,7 @@ public class ClassGroupService {
         }
 
         student.updateInfo(request.getName(), request.getStudentNumber());
+        eventPublisher.publishEvent(new StudentPrincipalChangedEvent(List.of(student.getDeviceUuid())));
     }
 
     // 학생 삭제
@@ -162,5 +179,7 @@ public class ClassGroupService {
         }
 
         studentRepository.delete(student);
+        eventPublisher.publishEvent(new StudentRemovedEvent(classId, student.getSchoolId(), List.of(studentId), false));
+        eventPublisher.publishEvent(new StudentPrincipalChangedEvent(List.of(student.getDeviceUuid())));
     }
 }
\ No newline at end of file
@@ -10,6 +10,8 @@ import com.ssafy.icethang.domain.monitoring.service.SocketSessionService;
 import com.ssafy.icethang.domain.student.entity.Student;
 import com.ssafy.icethang.domain.monitoring.repository.ClassEventLogRepository;
 import com.ssafy.icethang.domain.student.repository.StudentRepository;
+import com.ssafy.icethang.global.security.SocketPrincipal;
+import com.ssafy.icethang.global.security.StompAuthChannelInterceptor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -33,48 +35,50 @@ public class MonitoringController {
 
 
     @MessageMapping("/enter")
-    public void enterClass(AlertRequest request, StompHeaderAccessor headerAccessor) {
+    public void enterClass(StompHeaderAccessor headerAccessor) {
         String sessionId = headerAccessor.getSessionId();
 
-        Student student = studentRepository.findById(request.getStudentId())
-                .orElseThrow(() -> new RuntimeException("입장 처리 중 학생을 찾을 수 없습니다."));
+        // CONNECT 때 검증된 학생 정보 사용 (프레임 본문의 id는 믿지 않음)
+        SocketPrincipal principal = StompAuthChannelInterceptor.from(headerAccessor);
+        Long classId = principal.getClassId();
 
         // 1. 메모리에 접속 정보 저장
         ConnectedStudentDto studentInfo = ConnectedStudentDto.builder()
-                .studentId(student.getId())
-                .studentName(student.getName())
-                .studentNumber(student.getStudentNumber())
+                .studentId(principal.getUserId())
+                .studentName(principal.getStudentName())
+                .studentNumber(principal.getStudentNumber())
                 .build();
 
-        socketSessionService.addStudent(sessionId, request.getClassId(), studentInfo);
+        socketSessionService.addStudent(sessionId, classId, studentInfo);
 
-        log.info("🚪 입장 등록: 반={}, 학생={}", request.getClassId(), request.getStudentName());
+        log.info("🚪 입장 등록: 반={}, 학생={}", classId, principal.getStudentName());
 
         // 2. 선생님에게 "누가 들어왔다"고 알림 전송 (ENTER)
         MonitoringAlertResponse response = MonitoringAlertResponse.builder()
                 .type(AlertType.ENTER)
-                .studentId(student.getId())
-                .studentName(student.getName())
-                .studentNumber(student.getStudentNumber())
-                .message(student.getName() + " 학생이 입장했습니다.")
+                .studentId(principal.getUserId())
+                .studentName(principal.getStudentName())
+                .studentNumber(principal.getStudentNumber())
+                .message(principal.getStudentName() + " 학생이 입장했습니다.")
                 .alertTime(LocalDateTime.now())
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/class/" + request.getClassId(), response);
+        messagingTemplate.convertAndSend("/topic/class/" + classId, response);
 
-        sendUserCount(request.getClassId());
+        sendUserCount(classId);
     }
 
     // 학생 -> 선생님 : 선생님이 학생을 구독하여 학생쪽에서 선생님에게 발행 함
     // 선생님한테 보낼 소켓 주소 : /app/alert
     @MessageMapping("/alert")
-    public void sendAlert(AlertRequest request) {
+    public void sendAlert(AlertRequest request, StompHeaderAccessor headerAccessor) {
+        SocketPrincipal principal = StompAuthChannelInterceptor.from(headerAccessor);
+
         // 로그 확인 (테스트)
-        log.info("🚨 알람 수신: [{}] {}", request.getStudentName(), request.getType());
+        log.info("🚨 알람 수신: [{}] {}", principal.getStudentName(), request.getType());
 
-        // 학생 조회
-        Student student = studentRepository.findById(request.getStudentId())
-                .orElseThrow(() -> new RuntimeException("학생 없음"));
+        // 세션에 묶인 학생 id로 참조만 생성 (조회 쿼리 없음)
+        Student student = studentRepository.getReferenceById(principal.getUserId());
 
         // 프론트에서 넘어온시간이 없다면 서버 시간 쓰기
         LocalDateTime eventTime = (request.getDetectedAt() != null) ? request.getDetectedAt() : LocalDateTime.now();
@@ -100,12 +104,12 @@ public class MonitoringController {
                 student, AlertType.UNFOCUS, startOfDay, endOfDay);
 
         // 응답 생성
-        String alertMsg = makeAlertMessage(student.getName(), request.getType());
+        String alertMsg = makeAlertMessage(principal.getStudentName(), request.getType());
 
         MonitoringAlertResponse response = MonitoringAlertResponse.builder()
-                .studentId(student.getId())
-                .studentName(student.getName())
-                .studentNumber(student.getStudentNumber())
+                .studentId(principal.getUserId())
+                .studentName(principal.getStudentName())
+                .studentNumber(principal.getStudentNumber())
                 .type(request.getType())
                 .message(alertMsg)
                 .alertTime(eventTime)
@@ -114,7 +118,7 @@ public class MonitoringController {
                 .build();
 
         // 구독 중인 선생님에게 바로 전송 (DB 저장 X)
-        messagingTemplate.convertAndSend("/topic/class/" + request.getClassId(), response);
+        messagingTemplate.convertAndSend("/topic/class/" + principal.getClassId(), response);
     }
 
     private String makeAlertMessage(String name, AlertType type) {
@@ -140,6 +144,7 @@ public class MonitoringController {
 
     // 선생님 -> 학생들 : 학생들이 선생님을 구독하여 선생님쪽에서 반 학생들에게 발행함
     // 학생들에게 보낼 소켓 주소 : /app/mode
+    // 담당 반인지는 StompAuthChannelInterceptor 에서 확인
     @MessageMapping("/mode")
     public void changeMode(ModeChangeRequest request) {
         log.info("🔄 모드 변경 요청: {}반 -> {}", request.getClassId(), request.getMode());
@@ -5,20 +5,26 @@ import com.ssafy.icethang.domain.classgroup.repository.ClassGroupRepository;
 import com.ssafy.icethang.domain.monitoring.dto.AlertType;
 import com.ssafy.icethang.domain.monitoring.entity.ClassEventLog;
 import com.ssafy.icethang.domain.monitoring.repository.ClassEventLogRepository;
+import com.ssafy.icethang.domain.statistics.service.FocusDistributionService;
 import com.ssafy.icethang.domain.student.dto.response.StudyLogResponse;
 import com.ssafy.icethang.domain.student.entity.Student;
 import com.ssafy.icethang.domain.student.entity.StudyLog;
+import com.ssafy.icethang.domain.student.event.StudyLogSavedEvent;
+import com.ssafy.icethang.domain.student.event.XpGrantedEvent;
 import com.ssafy.icethang.domain.student.repository.StudentRepository;
 import com.ssafy.icethang.domain.student.repository.StudyLogRepository;
+import com.ssafy.icethang.domain.student.service.XpGrantService;
 import com.ssafy.icethang.global.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -32,6 +38,9 @@ public class ClassSessionService {
     private final StudyLogRepository studyLogRepository;
     private final ClassGroupRepository classGroupRepository;
     private final ClassEventLogRepository classEventLogRepository;
+    private final FocusDistributionService focusDistributionService;
+    private final XpGrantService xpGrantService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void startClass(Long classId) {
         if (!classGroupRepository.existsById(classId)) {
@@ -72,8 +81,6 @@ public class ClassSessionService {
             int focusRate = (int) (((double)(totalSeconds - lossSeconds) / totalSeconds) * 100);
             focusRate = Math.max(0, Math.min(100, focusRate));
 
-            student.addXp(focusRate);
-
             // 자리이탈 횟수 계산
             int awayCount = (int) myEvents.stream().filter(e -> e.getEventType() == AlertType.AWAY).count();
 
@@ -101,6 +108,17 @@ public class ClassSessionService {
             List<Long> savedIds = savedLogs.stream().map(StudyLog::getId).collect(Collectors.toList());
             log.info("✅ DB 저장 성공! 생성된 StudyLog IDs: {}", savedIds);
 
+            // 반/과목/날짜별 집중도 분포 누적
+            focusDistributionService.record(classId, request.getSubject(), savedLogs.get(0).getDate(),
+                    savedLogs.stream().map(StudyLog::getFocusRate).collect(Collectors.toList()));
+
+            // 통계 캐시 등 후처리 (커밋 이후 실행)
+            List<Long> studentIds = students.stream().map(Student::getId).collect(Collectors.toList());
+            eventPublisher.publishEvent(new StudyLogSavedEvent(classId, studentIds, savedLogs.get(0).getDate()));
+            eventPublisher.publishEvent(new XpGrantedEvent(classId, savedLogs.stream()
+                    .map(l -> new XpGrantedEvent.Grant(l.getStudent().getId(), l.getStudent().getSchoolId(), l.getFocusRate()))
+                    .collect(Collectors.toList())));
+
             // 5. 연결 업데이트
             for (StudyLog savedLog : savedLogs) {
                 List<ClassEventLog> connectedEvents = eventsByStudentId.get(savedLog.getStudent().getId());
@@ -112,6 +130,13 @@ public class ClassSessionService {
                 }
             }
 
+            // 경험치 = 집중도, 같은 값끼리 묶어서 원자적 UPDATE (연결된 이벤트 변경은 이 전에 flush 됨)
+            Map<Long, Integer> xpByStudentId = new HashMap<>();
+            for (StudyLog savedLog : savedLogs) {
+                xpByStudentId.put(savedLog.getStudent().getId(), savedLog.getFocusRate());
+            }
+            xpGrantService.grantEach(xpByStudentId);
+
             log.info("========== [수업 종료 정산 완료] ==========");
 
             return savedLogs.stream()
@@ -0,0 +1,30 @@
+package com.ssafy.icethang.domain.statistics.controller;
+
+import com.ssafy.icethang.domain.statistics.dto.response.FocusDistributionResponse;
+import com.ssafy.icethang.domain.statistics.service.FocusDistributionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/classes/{groupId}/statistics")
+public class ClassStatisticsController {
+
+    private final FocusDistributionService focusDistributionService;
+
+    // 반 집중도 분포 (분위수 + 구간별 인원)
+    @GetMapping("/focus-distribution")
+    public ResponseEntity<FocusDistributionResponse> getFocusDistribution(
+            @PathVariable Long groupId,
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate endDate,
+            @RequestParam(required = false) String subject,
+            @RequestParam(defaultValue = "10") int bucketWidth
+    ) {
+        return ResponseEntity.ok(focusDistributionService.getDistribution(groupId, subject, startDate, endDate, bucketWidth));
+    }
+}
@@ -0,0 +1,65 @@
+package com.ssafy.icethang.domain.statistics.controller;
+
+import com.ssafy.icethang.domain.statistics.service.ReportExportService;
+import com.ssafy.icethang.domain.statistics.service.ReportExportService.ExportFormat;
+import com.ssafy.icethang.global.security.UserPrincipal;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+// 학기 리포트 다운로드 (Content-Length 없이 chunked 로 전송)
+public class ReportExportController {
+
+    private final ReportExportService reportExportService;
+
+    // 반 단위 내보내기
+    @GetMapping("/classes/{classId}/reports/study-logs")
+    public void exportClassReport(
+            @PathVariable Long classId,
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate endDate,
+            @RequestParam(defaultValue = "csv") String format,
+            @AuthenticationPrincipal UserPrincipal principal,
+            HttpServletResponse response
+    ) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        reportExportService.validateClassOwner(classId, principal.getId());
+
+        prepare(response, exportFormat, "class-" + classId + "-" + startDate + "-" + endDate);
+        reportExportService.exportClass(classId, startDate, endDate, exportFormat, response.getOutputStream());
+    }
+
+    // 학교 단위 내보내기
+    @GetMapping("/schools/{schoolId}/reports/study-logs")
+    public void exportSchoolReport(
+            @PathVariable Integer schoolId,
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate endDate,
+            @RequestParam(defaultValue = "csv") String format,
+            @AuthenticationPrincipal UserPrincipal principal,
+            HttpServletResponse response
+    ) throws IOException {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        reportExportService.validateSchoolMember(schoolId, principal.getId());
+
+        prepare(response, exportFormat, "school-" + schoolId + "-" + startDate + "-" + endDate);
+        reportExportService.exportSchool(schoolId, startDate, endDate, exportFormat, response.getOutputStream());
+    }
+
+    private void prepare(HttpServletResponse response, ExportFormat format, String fileName) {
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + fileName + "." + format.getExtension() + "\"");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+    }
+}
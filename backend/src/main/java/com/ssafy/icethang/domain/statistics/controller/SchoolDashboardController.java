@@ -0,0 +1,31 @@
+package com.ssafy.icethang.domain.statistics.controller;
+
+import com.ssafy.icethang.domain.statistics.dto.response.SchoolDashboardResponse;
+import com.ssafy.icethang.domain.statistics.service.SchoolDashboardService;
+import com.ssafy.icethang.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/schools/{schoolId}/dashboard")
+public class SchoolDashboardController {
+
+    private final SchoolDashboardService schoolDashboardService;
+
+    // 학교 전체 반/학년별 집중도 요약
+    @GetMapping
+    public ResponseEntity<SchoolDashboardResponse> getDashboard(
+            @PathVariable Integer schoolId,
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate startDate,
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate endDate,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        return ResponseEntity.ok(schoolDashboardService.getDashboard(schoolId, principal.getId(), startDate, endDate));
+    }
+}
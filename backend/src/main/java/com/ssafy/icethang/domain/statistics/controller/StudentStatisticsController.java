@@ -5,10 +5,12 @@ import com.ssafy.icethang.domain.statistics.dto.response.MonthlyFocusResponse;
 import com.ssafy.icethang.domain.statistics.dto.response.SubjectStatisticsResponse;
 import com.ssafy.icethang.domain.statistics.dto.response.WeeklyFocusResponse;
 import com.ssafy.icethang.domain.statistics.service.StudentStatisticsService;
+import com.ssafy.icethang.domain.student.service.StudentVersionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -20,13 +22,19 @@ import java.util.List;
 public class StudentStatisticsController {
 
     private final StudentStatisticsService studentStatisticsService;
+    private final StudentVersionService studentVersionService;
 
     @GetMapping("/daily")
     public ResponseEntity<List<DailyStatisticsResponse>> getDailyStatistics(
             @PathVariable Long groupId,
             @PathVariable Long studentId,
-            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate date
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate date,
+            WebRequest webRequest
     ) {
+        // 학습 로그가 바뀌지 않았으면 조회/집계 없이 304
+        if (studentVersionService.checkNotModified(webRequest, studentId)) {
+            return null;
+        }
         return ResponseEntity.ok(studentStatisticsService.getDailyStatistics(groupId, studentId, date));
     }
 
@@ -34,8 +42,13 @@ public class StudentStatisticsController {
     public ResponseEntity<List<WeeklyFocusResponse>> getWeeklyStats(
             @PathVariable Long groupId,
             @PathVariable Long studentId,
-            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate startDate
+            @RequestParam @DateTimeFormat(pattern = "yyyyMMdd") LocalDate startDate,
+            WebRequest webRequest
     ) {
+        // 학습 로그가 바뀌지 않았으면 조회/집계 없이 304
+        if (studentVersionService.checkNotModified(webRequest, studentId)) {
+            return null;
+        }
         return ResponseEntity.ok(studentStatisticsService.getWeeklyFocusStats(groupId, studentId, startDate));
     }
 
@@ -43,8 +56,13 @@ public class StudentStatisticsController {
     public ResponseEntity<List<MonthlyFocusResponse>> getMonthlyStats(
             @PathVariable Long groupId,
             @PathVariable Long studentId,
-            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            WebRequest webRequest
     ) {
+        // 학습 로그가 바뀌지 않았으면 조회/집계 없이 304
+        if (studentVersionService.checkNotModified(webRequest, studentId)) {
+            return null;
+        }
         return ResponseEntity.ok(studentStatisticsService.getMonthlyFocusStats(groupId, studentId, month));
     }
 
@@ -53,8 +71,13 @@ public class StudentStatisticsController {
     public ResponseEntity<List<SubjectStatisticsResponse>> getSubjectStats(
             @PathVariable Long groupId,
             @PathVariable Long studentId,
-            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth month,
+            WebRequest webRequest
     ) {
+        // 학습 로그가 바뀌지 않았으면 조회/집계 없이 304
+        if (studentVersionService.checkNotModified(webRequest, studentId)) {
+            return null;
+        }
         // 리턴 타입과 서비스 메서드 호출을 수정했습니다.
         return ResponseEntity.ok(studentStatisticsService.getSubjectStatistics(groupId, studentId, month));
     }
@@ -1,11 +1,15 @@
 package com.ssafy.icethang.domain.statistics.dto.response;
 
 import com.ssafy.icethang.domain.student.entity.StudyLog;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class DailyStatisticsResponse {
     private Integer classNo;      // 교시
     private String subject;       // 과목
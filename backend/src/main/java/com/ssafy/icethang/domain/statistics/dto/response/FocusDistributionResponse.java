@@ -0,0 +1,36 @@
+package com.ssafy.icethang.domain.statistics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FocusDistributionResponse {
+    private Long groupId;
+    private String subject; // null이면 전체 과목
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Long sampleCount; // 집계된 학습 로그 수
+    private Double averageFocusRate;
+    private Integer p10;
+    private Integer p50;
+    private Integer p90;
+    private List<Bucket> buckets;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bucket {
+        private Integer from; // 포함
+        private Integer to;   // 포함
+        private Long count;
+    }
+}
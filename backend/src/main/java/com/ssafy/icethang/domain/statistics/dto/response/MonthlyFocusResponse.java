@@ -1,12 +1,16 @@
 package com.ssafy.icethang.domain.statistics.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class MonthlyFocusResponse {
     private LocalDate date;
     private Double averageFocusRate; // 해당 날짜의 평균 집중도
@@ -0,0 +1,41 @@
+package com.ssafy.icethang.domain.statistics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class SchoolDashboardResponse {
+    private Integer schoolId;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private Boolean complete;          // 제한 시간 안에 모든 반 집계를 끝냈는지
+    private Integer totalClasses;
+    private Integer completedClasses;
+    private Long computeMillis;        // 집계에 걸린 시간
+    private Boolean cached;
+    private List<GroupSummary> grades;  // 학년별 (groupId, classNum 은 null)
+    private List<GroupSummary> classes; // 반별
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GroupSummary {
+        private Long groupId;
+        private Integer grade;
+        private Integer classNum;
+        private Long sampleCount;
+        private Double averageFocusRate;
+        private Integer p10;
+        private Integer p50;
+        private Integer p90;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ssafy.icethang.domain.statistics.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Getter
+@AllArgsConstructor
+// 학기 리포트 내보내기 한 줄 (엔티티가 아닌 projection이라 영속성 컨텍스트에 쌓이지 않음)
+public class StudyLogExportRow {
+    private Long logId;
+    private Long studentId;
+    private String studentName;
+    private Integer studentNumber;
+    private Long classId;
+    private Integer grade;
+    private Integer classNum;
+    private LocalDate date;
+    private Integer classNo;
+    private String subject;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private Integer focusRate;
+    private Integer outOfSeatCount;
+    private String reason;
+    private Long awayEventCount;     // 이탈 이벤트 수
+    private Long unfocusEventCount;  // 딴짓 이벤트 수
+}
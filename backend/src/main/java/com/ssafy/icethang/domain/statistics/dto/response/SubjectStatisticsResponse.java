@@ -1,10 +1,14 @@
 package com.ssafy.icethang.domain.statistics.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class SubjectStatisticsResponse {
     private String subject;        // 과목명
     private Double avgFocusRate;   // 과목별 평균 집중도
@@ -1,12 +1,16 @@
 package com.ssafy.icethang.domain.statistics.dto.response;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 
 @Getter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class WeeklyFocusResponse {
     private LocalDate date;
     private String dayOfWeek;      // 요일 (MON, TUE...)
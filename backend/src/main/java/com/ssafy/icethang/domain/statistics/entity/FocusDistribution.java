@@ -0,0 +1,61 @@
+package com.ssafy.icethang.domain.statistics.entity;
+
+import com.ssafy.icethang.domain.statistics.sketch.FocusHistogram;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "focus_distributions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_focus_dist_group_subject_date",
+                columnNames = {"group_id", "subject", "date"}),
+        indexes = @Index(name = "idx_focus_dist_group_date", columnList = "group_id, date"))
+// 반 + 과목 + 날짜 단위 집중도 분포 (수업 종료 정산 시 누적)
+public class FocusDistribution {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "distribution_id")
+    private Long id;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(length = 50, nullable = false)
+    private String subject; // 과목 없으면 빈 문자열 (unique 제약에 null이 걸리지 않도록)
+
+    @Column(nullable = false)
+    private LocalDate date;
+
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount;
+
+    @Column(name = "histogram", nullable = false, columnDefinition = "VARBINARY(512)")
+    private byte[] histogram;
+
+    @Builder
+    public FocusDistribution(Long groupId, String subject, LocalDate date) {
+        this.groupId = groupId;
+        this.subject = subject;
+        this.date = date;
+        this.sampleCount = 0L;
+        this.histogram = new byte[0];
+    }
+
+    public FocusHistogram toHistogram() {
+        return FocusHistogram.fromBytes(histogram);
+    }
+
+    public void merge(FocusHistogram added) {
+        FocusHistogram merged = toHistogram();
+        merged.merge(added);
+        this.histogram = merged.toBytes();
+        this.sampleCount = merged.totalCount();
+    }
+}
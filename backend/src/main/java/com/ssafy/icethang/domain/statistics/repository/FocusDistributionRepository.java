@@ -0,0 +1,21 @@
+package com.ssafy.icethang.domain.statistics.repository;
+
+import com.ssafy.icethang.domain.statistics.entity.FocusDistribution;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface FocusDistributionRepository extends JpaRepository<FocusDistribution, Long> {
+
+    // 정산 시 동시에 같은 행을 갱신하지 않도록 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<FocusDistribution> findByGroupIdAndSubjectAndDate(Long groupId, String subject, LocalDate date);
+
+    List<FocusDistribution> findAllByGroupIdAndDateBetween(Long groupId, LocalDate start, LocalDate end);
+
+    List<FocusDistribution> findAllByGroupIdAndSubjectAndDateBetween(Long groupId, String subject, LocalDate start, LocalDate end);
+}
@@ -0,0 +1,118 @@
+package com.ssafy.icethang.domain.statistics.service;
+
+import com.ssafy.icethang.domain.statistics.dto.response.FocusDistributionResponse;
+import com.ssafy.icethang.domain.statistics.entity.FocusDistribution;
+import com.ssafy.icethang.domain.statistics.repository.FocusDistributionRepository;
+import com.ssafy.icethang.domain.statistics.sketch.FocusHistogram;
+import com.ssafy.icethang.global.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+// 반/과목/날짜별 집중도 분포 관리
+// 평균만으로는 보이지 않는 양극화된 반을 분위수와 구간 분포로 확인
+public class FocusDistributionService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT IGNORE INTO focus_distributions (group_id, subject, date, sample_count, histogram)
+            VALUES (?, ?, ?, 0, x'')
+            """;
+
+    private final FocusDistributionRepository focusDistributionRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 수업 종료 정산 시 호출 (정산 트랜잭션에 같이 묶임)
+     */
+    @Transactional
+    public void record(Long groupId, String subject, LocalDate date, Collection<Integer> focusRates) {
+        if (focusRates.isEmpty()) {
+            return;
+        }
+
+        FocusHistogram added = new FocusHistogram();
+        focusRates.forEach(added::add);
+
+        // 행 생성은 INSERT IGNORE 한 문장으로 (동시에 정산해도 중복 키 예외로 정산 전체가 롤백되지 않음)
+        // 행이 있는 상태에서 잠그므로 빈 구간 gap lock 도 걸리지 않음
+        String normalizedSubject = normalize(subject);
+        jdbcTemplate.update(INSERT_IF_ABSENT_SQL, groupId, normalizedSubject, date);
+        FocusDistribution distribution = focusDistributionRepository
+                .findByGroupIdAndSubjectAndDate(groupId, normalizedSubject, date)
+                .orElseThrow(() -> new IllegalStateException("집중도 분포 행 생성 실패: group=" + groupId));
+
+        distribution.merge(added);
+    }
+
+    /**
+     * 기간 내 일별 분포를 병합해서 분위수/구간 계산 (로그 스캔 없이 일 수 * 101 연산)
+     * subject가 null이면 전체 과목
+     */
+    public FocusDistributionResponse getDistribution(Long groupId, String subject, LocalDate startDate,
+                                                     LocalDate endDate, int bucketWidth) {
+        if (endDate.isBefore(startDate)) {
+            throw new BadRequestException("종료일이 시작일보다 빠릅니다.");
+        }
+        if (startDate.plusDays(MAX_RANGE_DAYS).isBefore(endDate)) {
+            throw new BadRequestException("조회 기간은 최대 1년입니다.");
+        }
+        if (bucketWidth < 1 || bucketWidth > FocusHistogram.MAX + 1) {
+            throw new BadRequestException("구간 크기는 1 ~ 101 사이여야 합니다.");
+        }
+
+        List<FocusDistribution> rows = (subject == null)
+                ? focusDistributionRepository.findAllByGroupIdAndDateBetween(groupId, startDate, endDate)
+                : focusDistributionRepository.findAllByGroupIdAndSubjectAndDateBetween(groupId, normalize(subject), startDate, endDate);
+
+        FocusHistogram merged = new FocusHistogram();
+        for (FocusDistribution row : rows) {
+            merged.merge(row.toHistogram());
+        }
+
+        Double average = merged.average();
+        return FocusDistributionResponse.builder()
+                .groupId(groupId)
+                .subject(subject)
+                .startDate(startDate)
+                .endDate(endDate)
+                .sampleCount(merged.totalCount())
+                .averageFocusRate(average == null ? null : Math.round(average * 10.0) / 10.0)
+                .p10(merged.quantile(0.10))
+                .p50(merged.quantile(0.50))
+                .p90(merged.quantile(0.90))
+                .buckets(toBuckets(merged, bucketWidth))
+                .build();
+    }
+
+    private List<FocusDistributionResponse.Bucket> toBuckets(FocusHistogram histogram, int width) {
+        List<FocusDistributionResponse.Bucket> buckets = new ArrayList<>();
+        for (int from = FocusHistogram.MIN; from <= FocusHistogram.MAX; ) {
+            int to = Math.min(from + width - 1, FocusHistogram.MAX);
+            // 100점만 따로 한 칸이 되지 않도록 마지막 구간에 포함 (예: 90~100)
+            if (width > 1 && to == FocusHistogram.MAX - 1) {
+                to = FocusHistogram.MAX;
+            }
+            buckets.add(FocusDistributionResponse.Bucket.builder()
+                    .from(from)
+                    .to(to)
+                    .count(histogram.countBetween(from, to))
+                    .build());
+            from = to + 1;
+        }
+        return buckets;
+    }
+
+    private String normalize(String subject) {
+        return subject == null ? "" : subject.trim();
+    }
+}
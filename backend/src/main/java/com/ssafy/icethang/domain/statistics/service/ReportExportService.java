@@ -0,0 +1,168 @@
+package com.ssafy.icethang.domain.statistics.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.icethang.domain.auth.entity.Auth;
+import com.ssafy.icethang.domain.auth.repository.AuthRepository;
+import com.ssafy.icethang.domain.classgroup.entity.ClassGroup;
+import com.ssafy.icethang.domain.classgroup.repository.ClassGroupRepository;
+import com.ssafy.icethang.domain.monitoring.dto.AlertType;
+import com.ssafy.icethang.domain.statistics.dto.response.StudyLogExportRow;
+import com.ssafy.icethang.domain.student.repository.StudyLogRepository;
+import com.ssafy.icethang.global.exception.BadRequestException;
+import com.ssafy.icethang.global.exception.ForbiddenException;
+import com.ssafy.icethang.global.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+// 학기 리포트(학습 로그 + 이벤트 요약) 스트리밍 내보내기
+// 한 줄씩 읽어서 바로 응답 스트림에 쓰므로 행 수와 상관없이 메모리 사용량 일정
+public class ReportExportService {
+
+    private static final int FLUSH_INTERVAL = 500; // 몇 줄마다 클라이언트로 내보낼지
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final String CSV_HEADER = "log_id,student_id,student_name,student_number,class_id,grade,class_num," +
+            "date,class_no,subject,start_time,end_time,focus_rate,out_of_seat_count,reason,away_events,unfocus_events";
+
+    private final StudyLogRepository studyLogRepository;
+    private final ClassGroupRepository classGroupRepository;
+    private final AuthRepository authRepository;
+    private final ObjectMapper objectMapper;
+
+    public enum ExportFormat {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static ExportFormat from(String value) {
+            for (ExportFormat format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BadRequestException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+
+    // 응답을 쓰기 전에 권한 확인 (스트리밍 시작 후에는 상태코드를 바꿀 수 없음)
+    public void validateClassOwner(Long classId, Long teacherId) {
+        ClassGroup classGroup = classGroupRepository.findById(classId)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 반이 존재하지 않습니다."));
+        if (!classGroup.getTeacher().getId().equals(teacherId)) {
+            throw new ForbiddenException("해당 반의 리포트를 내려받을 권한이 없습니다.");
+        }
+    }
+
+    public void validateSchoolMember(Integer schoolId, Long teacherId) {
+        Auth teacher = authRepository.findById(teacherId)
+                .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다."));
+        if (teacher.getSchool() == null || !teacher.getSchool().getSchoolId().equals(schoolId)) {
+            throw new ForbiddenException("해당 학교의 리포트를 내려받을 권한이 없습니다.");
+        }
+    }
+
+    public void exportClass(Long classId, LocalDate start, LocalDate end, ExportFormat format, OutputStream out) {
+        validateRange(start, end);
+        try (Stream<StudyLogExportRow> rows = studyLogRepository.streamExportRowsByClass(
+                classId, start, end, AlertType.AWAY, AlertType.UNFOCUS)) {
+            write(rows, format, out);
+        }
+    }
+
+    public void exportSchool(Integer schoolId, LocalDate start, LocalDate end, ExportFormat format, OutputStream out) {
+        validateRange(start, end);
+        try (Stream<StudyLogExportRow> rows = studyLogRepository.streamExportRowsBySchool(
+                schoolId, start, end, AlertType.AWAY, AlertType.UNFOCUS)) {
+            write(rows, format, out);
+        }
+    }
+
+    private void validateRange(LocalDate start, LocalDate end) {
+        if (end.isBefore(start)) {
+            throw new BadRequestException("종료일이 시작일보다 빠릅니다.");
+        }
+    }
+
+    private void write(Stream<StudyLogExportRow> rows, ExportFormat format, OutputStream out) {
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            if (format == ExportFormat.CSV) {
+                writer.write('\uFEFF'); // 엑셀에서 한글 깨짐 방지용 BOM
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+            }
+
+            long count = 0;
+            var iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                StudyLogExportRow row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+            log.info("리포트 내보내기 완료: {}줄 ({})", count, format);
+        } catch (IOException e) {
+            // 클라이언트가 다운로드를 중간에 끊은 경우 등
+            throw new UncheckedIOException("리포트 전송 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    private void writeCsv(Writer writer, StudyLogExportRow row) throws IOException {
+        writer.write(String.join(",",
+                csv(row.getLogId()), csv(row.getStudentId()), csv(row.getStudentName()), csv(row.getStudentNumber()),
+                csv(row.getClassId()), csv(row.getGrade()), csv(row.getClassNum()), csv(row.getDate()),
+                csv(row.getClassNo()), csv(row.getSubject()), csv(row.getStartTime()), csv(row.getEndTime()),
+                csv(row.getFocusRate()), csv(row.getOutOfSeatCount()), csv(row.getReason()),
+                csv(row.getAwayEventCount()), csv(row.getUnfocusEventCount())));
+        writer.write('\n');
+    }
+
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,185 @@
+package com.ssafy.icethang.domain.statistics.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.icethang.domain.auth.entity.Auth;
+import com.ssafy.icethang.domain.auth.repository.AuthRepository;
+import com.ssafy.icethang.domain.classgroup.entity.ClassGroup;
+import com.ssafy.icethang.domain.classgroup.repository.ClassGroupRepository;
+import com.ssafy.icethang.domain.statistics.dto.response.SchoolDashboardResponse;
+import com.ssafy.icethang.domain.statistics.dto.response.SchoolDashboardResponse.GroupSummary;
+import com.ssafy.icethang.domain.statistics.entity.FocusDistribution;
+import com.ssafy.icethang.domain.statistics.repository.FocusDistributionRepository;
+import com.ssafy.icethang.domain.statistics.sketch.FocusHistogram;
+import com.ssafy.icethang.global.exception.BadRequestException;
+import com.ssafy.icethang.global.exception.ForbiddenException;
+import com.ssafy.icethang.global.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+// 학교 전체 대시보드 (반별/학년별 집중도 요약)
+// 반마다 일별 분포(focus_distributions)를 병렬로 병합하고, 제한 시간이 지나면 끝난 반까지만 응답
+public class SchoolDashboardService {
+
+    private static final Duration DEADLINE = Duration.ofSeconds(3);
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final ClassGroupRepository classGroupRepository;
+    private final AuthRepository authRepository;
+    private final FocusDistributionRepository focusDistributionRepository;
+    private final ExecutorService statisticsExecutor;
+
+    // 기간별 결과 캐시 (모든 반 집계가 끝난 결과만 저장)
+    private final Cache<String, SchoolDashboardResponse> dashboardCache = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    public SchoolDashboardResponse getDashboard(Integer schoolId, Long teacherId, LocalDate startDate, LocalDate endDate) {
+        validateSchoolMember(schoolId, teacherId);
+        if (endDate.isBefore(startDate)) {
+            throw new BadRequestException("종료일이 시작일보다 빠릅니다.");
+        }
+        if (startDate.plusDays(MAX_RANGE_DAYS).isBefore(endDate)) {
+            throw new BadRequestException("조회 기간은 최대 1년입니다.");
+        }
+
+        String cacheKey = schoolId + ":" + startDate + ":" + endDate;
+        SchoolDashboardResponse cached = dashboardCache.getIfPresent(cacheKey);
+        if (cached != null) {
+            return cached.toBuilder().cached(true).build();
+        }
+
+        SchoolDashboardResponse response = compute(schoolId, startDate, endDate);
+        if (response.getComplete()) {
+            dashboardCache.put(cacheKey, response);
+        }
+        return response;
+    }
+
+    private SchoolDashboardResponse compute(Integer schoolId, LocalDate startDate, LocalDate endDate) {
+        long started = System.nanoTime();
+        long deadline = started + DEADLINE.toNanos();
+
+        List<ClassGroup> classGroups = classGroupRepository.findAllByTeacher_School_SchoolId(schoolId);
+
+        // 반별 집계를 병렬로 시작 (풀이 꽉 차면 해당 반은 이번 응답에서 제외)
+        List<ClassTask> tasks = new ArrayList<>();
+        for (ClassGroup classGroup : classGroups) {
+            Long groupId = classGroup.getId();
+            CompletableFuture<FocusHistogram> future;
+            try {
+                future = CompletableFuture.supplyAsync(() -> mergeClass(groupId, startDate, endDate), statisticsExecutor);
+            } catch (RejectedExecutionException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            tasks.add(new ClassTask(classGroup, future));
+        }
+
+        // 반별 결과 수집 (전체 제한 시간 안에서)
+        List<GroupSummary> classes = new ArrayList<>();
+        Map<Integer, FocusHistogram> byGrade = new TreeMap<>();
+        for (ClassTask task : tasks) {
+            FocusHistogram histogram = await(task, deadline);
+            if (histogram == null) {
+                continue;
+            }
+            ClassGroup classGroup = task.classGroup();
+            classes.add(summarize(classGroup.getId(), classGroup.getGrade(), classGroup.getClassNum(), histogram));
+            byGrade.computeIfAbsent(classGroup.getGrade(), g -> new FocusHistogram()).merge(histogram);
+        }
+        classes.sort(Comparator.comparing(GroupSummary::getGrade).thenComparing(GroupSummary::getClassNum));
+
+        List<GroupSummary> grades = byGrade.entrySet().stream()
+                .map(e -> summarize(null, e.getKey(), null, e.getValue()))
+                .toList();
+
+        long computeMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        boolean complete = classes.size() == classGroups.size();
+        if (!complete) {
+            log.warn("학교 대시보드 부분 응답: school={}, {}/{}개 반 ({}ms)", schoolId, classes.size(), classGroups.size(), computeMillis);
+        }
+
+        return SchoolDashboardResponse.builder()
+                .schoolId(schoolId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .complete(complete)
+                .totalClasses(classGroups.size())
+                .completedClasses(classes.size())
+                .computeMillis(computeMillis)
+                .cached(false)
+                .grades(grades)
+                .classes(classes)
+                .build();
+    }
+
+    private FocusHistogram mergeClass(Long groupId, LocalDate startDate, LocalDate endDate) {
+        FocusHistogram merged = new FocusHistogram();
+        for (FocusDistribution row : focusDistributionRepository.findAllByGroupIdAndDateBetween(groupId, startDate, endDate)) {
+            merged.merge(row.toHistogram());
+        }
+        return merged;
+    }
+
+    // 제한 시간까지 기다리고, 못 끝낸 작업은 취소
+    private FocusHistogram await(ClassTask task, long deadline) {
+        long remaining = deadline - System.nanoTime();
+        try {
+            return task.future().get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            task.future().cancel(true);
+            return null;
+        } catch (ExecutionException e) {
+            log.warn("반 집계 실패: group={}", task.classGroup().getId(), e.getCause());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.future().cancel(true);
+            return null;
+        }
+    }
+
+    private GroupSummary summarize(Long groupId, Integer grade, Integer classNum, FocusHistogram histogram) {
+        Double average = histogram.average();
+        return GroupSummary.builder()
+                .groupId(groupId)
+                .grade(grade)
+                .classNum(classNum)
+                .sampleCount(histogram.totalCount())
+                .averageFocusRate(average == null ? null : Math.round(average * 10.0) / 10.0)
+                .p10(histogram.quantile(0.10))
+                .p50(histogram.quantile(0.50))
+                .p90(histogram.quantile(0.90))
+                .build();
+    }
+
+    private void validateSchoolMember(Integer schoolId, Long teacherId) {
+        Auth teacher = authRepository.findById(teacherId)
+                .orElseThrow(() -> new ResourceNotFoundException("유저를 찾을 수 없습니다."));
+        if (teacher.getSchool() == null || !teacher.getSchool().getSchoolId().equals(schoolId)) {
+            throw new ForbiddenException("해당 학교의 대시보드를 조회할 권한이 없습니다.");
+        }
+    }
+
+    private record ClassTask(ClassGroup classGroup, CompletableFuture<FocusHistogram> future) {
+    }
+}
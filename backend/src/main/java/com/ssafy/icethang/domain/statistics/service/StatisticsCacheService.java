@@ -0,0 +1,172 @@
+package com.ssafy.icethang.domain.statistics.service;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.icethang.domain.student.event.StudyLogSavedEvent;
+import com.ssafy.icethang.global.redis.CacheInvalidationBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+// 통계 2단 캐시 (L1: 서버 로컬, L2: redis)
+// 학습 로그가 저장되면 해당 학생 + 날짜에 걸리는 키만 정확히 무효화
+public class StatisticsCacheService {
+
+    private static final String CACHE_NAME = "statistics";
+    private static final String KEY_PREFIX = "stats:";
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 오늘이 포함된 기간은 짧게, 지난 기간은 바뀌지 않으므로 길게
+    private static final Duration CURRENT_TTL = Duration.ofMinutes(10);
+    private static final Duration PAST_TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final MeterRegistry meterRegistry;
+
+    private final Cache<String, List<?>> localCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .recordStats()
+            .build();
+
+    private Counter redisHit;
+    private Counter redisMiss;
+
+    public enum Granularity {
+        DAILY, WEEKLY, MONTHLY, SUBJECT
+    }
+
+    @PostConstruct
+    void init() {
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "statistics.l1");
+        redisHit = meterRegistry.counter("statistics.l2.requests", "result", "hit");
+        redisMiss = meterRegistry.counter("statistics.l2.requests", "result", "miss");
+
+        cacheInvalidationBus.register(CACHE_NAME, payload -> {
+            // payload = groupId:studentId:yyyyMMdd
+            String[] parts = payload.split(":");
+            localCache.invalidateAll(affectedKeys(
+                    Long.valueOf(parts[0]), Long.valueOf(parts[1]), LocalDate.parse(parts[2], DAY)));
+        });
+    }
+
+    public String dailyKey(Long groupId, Long studentId, LocalDate date) {
+        return key(Granularity.DAILY, groupId, studentId, date.format(DAY));
+    }
+
+    public String weeklyKey(Long groupId, Long studentId, LocalDate startDate) {
+        return key(Granularity.WEEKLY, groupId, studentId, startDate.format(DAY));
+    }
+
+    public String monthlyKey(Long groupId, Long studentId, YearMonth yearMonth) {
+        return key(Granularity.MONTHLY, groupId, studentId, yearMonth.toString());
+    }
+
+    public String subjectKey(Long groupId, Long studentId, YearMonth yearMonth) {
+        return key(Granularity.SUBJECT, groupId, studentId, yearMonth.toString());
+    }
+
+    /**
+     * L1 -> L2 -> 계산 순서로 조회
+     * periodEnd: 해당 통계가 다루는 마지막 날짜 (TTL 결정용)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getOrLoad(String key, Class<T> elementType, LocalDate periodEnd, Supplier<List<T>> loader) {
+        List<?> cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            return (List<T>) cached;
+        }
+
+        List<T> value = readRedis(key, elementType);
+        if (value != null) {
+            redisHit.increment();
+        } else {
+            redisMiss.increment();
+            value = loader.get();
+            writeRedis(key, value, periodEnd.isBefore(LocalDate.now()) ? PAST_TTL : CURRENT_TTL);
+        }
+
+        localCache.put(key, value);
+        return value;
+    }
+
+    // 학습 로그 저장이 커밋된 뒤에만 무효화 (롤백되면 캐시 유지)
+    @TransactionalEventListener
+    public void onStudyLogSaved(StudyLogSavedEvent event) {
+        for (Long studentId : event.getStudentIds()) {
+            evict(event.getGroupId(), studentId, event.getDate());
+        }
+    }
+
+    public void evict(Long groupId, Long studentId, LocalDate date) {
+        try {
+            stringRedisTemplate.delete(affectedKeys(groupId, studentId, date));
+        } catch (Exception e) {
+            log.warn("통계 캐시(redis) 삭제 실패: group={}, student={}, date={}", groupId, studentId, date, e);
+        }
+        cacheInvalidationBus.publish(CACHE_NAME, groupId + ":" + studentId + ":" + date.format(DAY));
+    }
+
+    // 특정 날짜의 로그가 영향을 주는 통계 키 목록
+    private List<String> affectedKeys(Long groupId, Long studentId, LocalDate date) {
+        List<String> keys = new ArrayList<>();
+        keys.add(dailyKey(groupId, studentId, date));
+
+        // 주간 통계는 시작일 기준 7일이므로 date-6 ~ date 시작 키가 모두 영향 받음
+        for (int i = 0; i < 7; i++) {
+            keys.add(weeklyKey(groupId, studentId, date.minusDays(i)));
+        }
+
+        YearMonth yearMonth = YearMonth.from(date);
+        keys.add(monthlyKey(groupId, studentId, yearMonth));
+        keys.add(subjectKey(groupId, studentId, yearMonth));
+        return keys;
+    }
+
+    private String key(Granularity granularity, Long groupId, Long studentId, String period) {
+        return KEY_PREFIX + granularity.name().toLowerCase() + ":" + groupId + ":" + studentId + ":" + period;
+    }
+
+    private <T> List<T> readRedis(String key, Class<T> elementType) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(key);
+            if (json == null) {
+                return null;
+            }
+            JavaType type = objectMapper.getTypeFactory().constructCollectionType(List.class, elementType);
+            return objectMapper.readValue(json, type);
+        } catch (Exception e) {
+            log.warn("통계 캐시(redis) 조회 실패: key={}", key, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, List<?> value, Duration ttl) {
+        try {
+            stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value), ttl);
+        } catch (Exception e) {
+            log.warn("통계 캐시(redis) 저장 실패: key={}", key, e);
+        }
+    }
+}
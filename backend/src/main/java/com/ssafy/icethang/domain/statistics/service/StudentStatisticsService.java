@@ -23,11 +23,19 @@ import java.util.stream.Collectors;
 public class StudentStatisticsService {
 
     private final StudyLogRepository studyLogRepository;
+    private final StatisticsCacheService statisticsCacheService;
 
     /**
      * 1. 일별 통계 조회
      */
     public List<DailyStatisticsResponse> getDailyStatistics(Long groupId, Long studentId, LocalDate date) {
+        return statisticsCacheService.getOrLoad(
+                statisticsCacheService.dailyKey(groupId, studentId, date),
+                DailyStatisticsResponse.class, date,
+                () -> loadDailyStatistics(groupId, studentId, date));
+    }
+
+    private List<DailyStatisticsResponse> loadDailyStatistics(Long groupId, Long studentId, LocalDate date) {
         return studyLogRepository.findByStudent_ClassGroup_IdAndStudent_IdAndDateOrderByClassNoAsc(groupId, studentId, date)
                 .stream()
                 .map(DailyStatisticsResponse::from)
@@ -38,6 +46,13 @@ public class StudentStatisticsService {
      * 2. 주별 집중도 추이 조회 (7일간)
      */
     public List<WeeklyFocusResponse> getWeeklyFocusStats(Long groupId, Long studentId, LocalDate startDate) {
+        return statisticsCacheService.getOrLoad(
+                statisticsCacheService.weeklyKey(groupId, studentId, startDate),
+                WeeklyFocusResponse.class, startDate.plusDays(6),
+                () -> loadWeeklyFocusStats(groupId, studentId, startDate));
+    }
+
+    private List<WeeklyFocusResponse> loadWeeklyFocusStats(Long groupId, Long studentId, LocalDate startDate) {
         LocalDate endDate = startDate.plusDays(6);
 
         // 해당 그룹+학생의 7일치 로그 조회
@@ -64,6 +79,13 @@ public class StudentStatisticsService {
      * 3. 월별 집중도 히트맵 조회
      */
     public List<MonthlyFocusResponse> getMonthlyFocusStats(Long groupId, Long studentId, YearMonth yearMonth) {
+        return statisticsCacheService.getOrLoad(
+                statisticsCacheService.monthlyKey(groupId, studentId, yearMonth),
+                MonthlyFocusResponse.class, yearMonth.atEndOfMonth(),
+                () -> loadMonthlyFocusStats(groupId, studentId, yearMonth));
+    }
+
+    private List<MonthlyFocusResponse> loadMonthlyFocusStats(Long groupId, Long studentId, YearMonth yearMonth) {
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
@@ -91,6 +113,13 @@ public class StudentStatisticsService {
      * 4. 과목별 통계 조회
      */
     public List<SubjectStatisticsResponse> getSubjectStatistics(Long groupId, Long studentId, YearMonth yearMonth) {
+        return statisticsCacheService.getOrLoad(
+                statisticsCacheService.subjectKey(groupId, studentId, yearMonth),
+                SubjectStatisticsResponse.class, yearMonth.atEndOfMonth(),
+                () -> loadSubjectStatistics(groupId, studentId, yearMonth));
+    }
+
+    private List<SubjectStatisticsResponse> loadSubjectStatistics(Long groupId, Long studentId, YearMonth yearMonth) {
         // 1. 해당 월의 범위 계산
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
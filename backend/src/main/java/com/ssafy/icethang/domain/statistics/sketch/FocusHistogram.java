@@ -0,0 +1,142 @@
+package com.ssafy.icethang.domain.statistics.sketch;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 집중도(0~100 정수) 분포 스케치
+ * 값의 범위가 101개로 고정이라 버킷 하나에 값 하나를 두는 정확한 히스토그램으로 충분함
+ * (t-digest 같은 근사 없이도 병합/분위수 계산이 O(101))
+ */
+public class FocusHistogram {
+
+    public static final int MIN = 0;
+    public static final int MAX = 100;
+    private static final int SIZE = MAX - MIN + 1;
+
+    private final long[] counts;
+
+    public FocusHistogram() {
+        this.counts = new long[SIZE];
+    }
+
+    private FocusHistogram(long[] counts) {
+        this.counts = counts;
+    }
+
+    public void add(int focusRate) {
+        counts[clamp(focusRate)]++;
+    }
+
+    public void merge(FocusHistogram other) {
+        for (int i = 0; i < SIZE; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    public long totalCount() {
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        return total;
+    }
+
+    public Double average() {
+        long total = 0;
+        long sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            total += counts[i];
+            sum += counts[i] * (long) (i + MIN);
+        }
+        return total == 0 ? null : (double) sum / total;
+    }
+
+    /**
+     * nearest-rank 방식 분위수 (q: 0.0 ~ 1.0)
+     * 데이터가 없으면 null
+     */
+    public Integer quantile(double q) {
+        long total = totalCount();
+        if (total == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long cumulative = 0;
+        for (int i = 0; i < SIZE; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return i + MIN;
+            }
+        }
+        return MAX;
+    }
+
+    // [from, to] 구간의 개수 (양 끝 포함)
+    public long countBetween(int from, int to) {
+        long count = 0;
+        for (int i = clamp(from); i <= clamp(to); i++) {
+            count += counts[i];
+        }
+        return count;
+    }
+
+    /**
+     * 저장용 인코딩: 0이 아닌 버킷만 (값, 개수) varint 쌍으로 기록
+     * 한 수업(30명 내외)이면 수십 바이트 수준
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (int i = 0; i < SIZE; i++) {
+            if (counts[i] != 0) {
+                writeVarLong(out, i);
+                writeVarLong(out, counts[i]);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    public static FocusHistogram fromBytes(byte[] bytes) {
+        long[] counts = new long[SIZE];
+        if (bytes == null) {
+            return new FocusHistogram(counts);
+        }
+        int[] pos = {0};
+        while (pos[0] < bytes.length) {
+            int index = (int) readVarLong(bytes, pos);
+            long count = readVarLong(bytes, pos);
+            if (index < 0 || index >= SIZE) {
+                throw new IllegalArgumentException("잘못된 집중도 분포 데이터입니다.");
+            }
+            counts[index] += count;
+        }
+        return new FocusHistogram(counts);
+    }
+
+    private static int clamp(int value) {
+        return Math.max(MIN, Math.min(MAX, value)) - MIN;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] bytes, int[] pos) {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            if (pos[0] >= bytes.length || shift > 63) {
+                throw new IllegalArgumentException("잘못된 집중도 분포 데이터입니다.");
+            }
+            byte b = bytes[pos[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+    }
+}
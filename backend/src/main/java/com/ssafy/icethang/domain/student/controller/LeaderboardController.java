@@ -0,0 +1,61 @@
+package com.ssafy.icethang.domain.student.controller;
+
+import com.ssafy.icethang.domain.student.dto.response.LeaderboardEntryResponse;
+import com.ssafy.icethang.domain.student.dto.response.LeaderboardRankResponse;
+import com.ssafy.icethang.domain.student.service.LeaderboardService;
+import com.ssafy.icethang.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class LeaderboardController {
+
+    private final LeaderboardService leaderboardService;
+
+    // 반 경험치 상위 N명
+    @GetMapping("/classes/{classId}/leaderboard")
+    public ResponseEntity<List<LeaderboardEntryResponse>> getClassTop(
+            @PathVariable Long classId,
+            @RequestParam(defaultValue = "10") int limit,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        leaderboardService.validateClassAccess(classId, principal);
+        return ResponseEntity.ok(leaderboardService.getClassTop(classId, limit));
+    }
+
+    // 반 안에서 학생 순위 + 위아래 학생
+    @GetMapping("/classes/{classId}/leaderboard/students/{studentId}")
+    public ResponseEntity<LeaderboardRankResponse> getClassRank(
+            @PathVariable Long classId,
+            @PathVariable Long studentId,
+            @RequestParam(defaultValue = "2") int range,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        leaderboardService.validateClassAccess(classId, principal);
+        return ResponseEntity.ok(leaderboardService.getClassRank(classId, studentId, range));
+    }
+
+    // 학교 경험치 상위 N명
+    @GetMapping("/schools/{schoolId}/leaderboard")
+    public ResponseEntity<List<LeaderboardEntryResponse>> getSchoolTop(
+            @PathVariable Integer schoolId,
+            @RequestParam(defaultValue = "10") int limit,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        leaderboardService.validateSchoolAccess(schoolId, principal);
+        return ResponseEntity.ok(leaderboardService.getSchoolTop(schoolId, limit));
+    }
+
+    // 학교 안에서 학생 순위 + 위아래 학생
+    @GetMapping("/schools/{schoolId}/leaderboard/students/{studentId}")
+    public ResponseEntity<LeaderboardRankResponse> getSchoolRank(
+            @PathVariable Integer schoolId,
+            @PathVariable Long studentId,
+            @RequestParam(defaultValue = "2") int range,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        leaderboardService.validateSchoolAccess(schoolId, principal);
+        return ResponseEntity.ok(leaderboardService.getSchoolRank(schoolId, studentId, range));
+    }
+}
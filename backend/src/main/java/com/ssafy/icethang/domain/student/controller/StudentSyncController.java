@@ -0,0 +1,30 @@
+package com.ssafy.icethang.domain.student.controller;
+
+import com.ssafy.icethang.domain.student.dto.response.StudentSyncResponse;
+import com.ssafy.icethang.domain.student.service.StudentSyncService;
+import com.ssafy.icethang.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class StudentSyncController {
+
+    private final StudentSyncService studentSyncService;
+
+    // 학생 앱 실행 시 한 번 호출 (since = 이전 응답의 syncToken, 처음이면 생략)
+    // 경험치/레벨, 보유/장착 테마, 새 학습 로그 중 바뀐 것만 응답
+    @GetMapping("/students/me/sync")
+    public ResponseEntity<StudentSyncResponse> sync(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestParam(required = false) String since) {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(studentSyncService.sync(principal.getId(), since));
+    }
+}
@@ -1,14 +1,18 @@
 package com.ssafy.icethang.domain.student.controller;
 
+import com.ssafy.icethang.domain.student.dto.request.ClassXpGrantRequest;
 import com.ssafy.icethang.domain.student.dto.request.StudentXpUpdateRequest;
+import com.ssafy.icethang.domain.student.dto.response.ClassXpGrantResponse;
 import com.ssafy.icethang.domain.student.dto.response.StudentXpResponse;
-import com.ssafy.icethang.domain.student.dto.response.StudyLogResponse;
+import com.ssafy.icethang.domain.student.dto.response.StudyLogPageResponse;
 import com.ssafy.icethang.domain.student.service.StudentService;
+import com.ssafy.icethang.domain.student.service.StudentVersionService;
 import com.ssafy.icethang.domain.student.service.StudentXpService;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +22,7 @@ import java.util.List;
 public class StudentXpController {
     private final StudentXpService studentXpService;
     private final StudentService studentService;
+    private final StudentVersionService studentVersionService;
 
     // 학생 경험치랑 레벨 조회
     @GetMapping("/{classId}/students/{studentId}/xp")
@@ -38,12 +43,27 @@ public class StudentXpController {
         return ResponseEntity.ok(response);
     }
 
-    // 특정 학생의 학습 로그 목록 조회
+    // 반 학생들에게 경험치 일괄 부여 (studentIds 없으면 반 전체)
+    @PatchMapping("/{classId}/xp/give")
+    public ResponseEntity<List<ClassXpGrantResponse>> giveXpToClass(
+            @PathVariable("classId") Long classId,
+            @RequestBody ClassXpGrantRequest request) {
+        return ResponseEntity.ok(studentXpService.giveXpToClass(classId, request));
+    }
+
+    // 특정 학생의 학습 로그 목록 조회 (최신순, 커서 페이지네이션)
     @GetMapping("/{classId}/students/{studentId}/logs")
-    public ResponseEntity<List<StudyLogResponse>> getStudentLogs(
-            @PathVariable Long studentId) {
+    public ResponseEntity<StudyLogPageResponse> getStudentLogs(
+            @PathVariable Long studentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+
+        // 새 학습 로그가 없으면 304
+        if (studentVersionService.checkNotModified(webRequest, studentId)) {
+            return null;
+        }
 
-        List<StudyLogResponse> logs = studentService.getStudentStudyLogs(studentId);
-        return ResponseEntity.ok(logs);
+        return ResponseEntity.ok(studentService.getStudentStudyLogs(studentId, cursor, size));
     }
 }
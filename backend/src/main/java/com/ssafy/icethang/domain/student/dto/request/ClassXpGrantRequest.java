@@ -0,0 +1,15 @@
+package com.ssafy.icethang.domain.student.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+// 반 단위 경험치 일괄 부여 dto
+public class ClassXpGrantRequest {
+    private Integer amount;
+    private String reason;
+    private List<Long> studentIds; // 비어 있으면 반 전체
+}
@@ -0,0 +1,12 @@
+package com.ssafy.icethang.domain.student.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ClassXpGrantResponse {
+    private Long studentId;
+    private int currentXp;
+    private int currentLevel;
+}
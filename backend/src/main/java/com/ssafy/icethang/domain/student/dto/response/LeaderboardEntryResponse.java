@@ -0,0 +1,18 @@
+package com.ssafy.icethang.domain.student.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardEntryResponse {
+    private Long rank; // 동점이면 같은 순위
+    private Long studentId;
+    private String name;
+    private Integer studentNumber;
+    private Long xp;
+}
@@ -0,0 +1,20 @@
+package com.ssafy.icethang.domain.student.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LeaderboardRankResponse {
+    private Long studentId;
+    private Long rank;
+    private Long xp;
+    private Long total; // 리더보드 전체 인원
+    private List<LeaderboardEntryResponse> neighbors; // 위아래 학생들 (본인 포함)
+}
@@ -0,0 +1,20 @@
+package com.ssafy.icethang.domain.student.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+// 기기 UUID로 찾는 학생 기본 정보 (로그인/내 정보 응답용 캐시 값)
+public class StudentPrincipalDto {
+    private Long studentId;
+    private String deviceUuid;
+    private String name;
+    private Integer studentNumber;
+    private Long classId;
+    private Integer grade;
+    private Integer classNum;
+    private Integer schoolId;
+}
@@ -0,0 +1,31 @@
+package com.ssafy.icethang.domain.student.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+// 학생 앱 동기화 응답
+// 바뀐 항목만 채워지고 나머지는 null (클라이언트는 가지고 있던 값 유지)
+public class StudentSyncResponse {
+    private String syncToken;          // 다음 동기화 때 since 로 전달 (null 이면 다음에도 전체 동기화)
+    private boolean full;              // true 면 모든 항목이 채워진 전체 동기화
+    private String themeCatalogVersion; // 테마 에셋은 /themes/manifest?v= 로 따로 캐시
+
+    private StudentXpResponse xp;
+    private List<Long> unlockedThemeIds;
+    private EquippedThemes equipped;
+
+    private List<StudyLogResponse> logs; // 새 학습 로그 (id 오름차순), 없으면 빈 목록
+    private boolean logsReset;           // true 면 가지고 있던 로그를 버리고 logs(최신순) 부터 다시 (/logs 로 이어서 조회)
+
+    @Getter
+    @AllArgsConstructor
+    public static class EquippedThemes {
+        private Long characterId;
+        private Long backgroundId;
+    }
+}
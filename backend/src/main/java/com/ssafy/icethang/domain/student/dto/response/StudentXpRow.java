@@ -0,0 +1,14 @@
+package com.ssafy.icethang.domain.student.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// 리더보드 재구성용 최소 컬럼 조회 결과
+public class StudentXpRow {
+    private Long studentId;
+    private Long groupId;
+    private Integer schoolId;
+    private int currentXp;
+}
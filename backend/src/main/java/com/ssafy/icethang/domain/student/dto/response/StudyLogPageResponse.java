@@ -0,0 +1,14 @@
+package com.ssafy.icethang.domain.student.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class StudyLogPageResponse {
+    private List<StudyLogResponse> logs;
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -8,12 +8,14 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@DynamicUpdate // 변경된 컬럼만 UPDATE (경험치는 XpGrantService 에서 원자적으로 갱신하므로 덮어쓰지 않도록)
 @SQLDelete(sql = "UPDATE students SET deleted_at = CURRENT_TIMESTAMP WHERE student_id = ?")
 @Where(clause = "deleted_at IS NULL")
 @Table(name = "students")
@@ -74,11 +76,6 @@ public class Student extends BaseEntity {
         if (studentNumber != null) this.studentNumber = studentNumber;
     }
 
-    // 선생님이 경험치 수정
-    public void addXp(int amount) {
-        this.currentXp += amount;
-    }
-
     // 레벨 업데이트 메서드
     public void updateLevel(int newLevel) {
         if (newLevel > 0) {
@@ -16,7 +16,10 @@ import java.time.LocalTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SQLDelete(sql = "UPDATE study_logs SET deleted_at = CURRENT_TIMESTAMP WHERE log_id = ?")
 @Where(clause = "deleted_at IS NULL")
-@Table(name = "study_logs")
+@Table(name = "study_logs", indexes = {
+        // 학습 로그 목록 커서 페이지네이션 (student_id, created_at, log_id)
+        @Index(name = "idx_study_logs_student_created", columnList = "student_id, created_at, log_id")
+})
 public class StudyLog extends BaseEntity {
 
     @Id
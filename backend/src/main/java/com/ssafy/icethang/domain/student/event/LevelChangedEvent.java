@@ -0,0 +1,21 @@
+package com.ssafy.icethang.domain.student.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+// 경험치 부여로 레벨이 오른 학생들 (부여한 트랜잭션 안에서 발행)
+public class LevelChangedEvent {
+    private List<LevelUp> levelUps;
+
+    @Getter
+    @AllArgsConstructor
+    public static class LevelUp {
+        private Long studentId;
+        private int previousLevel;
+        private int currentLevel;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ssafy.icethang.domain.student.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+// 학생 기본 정보(이름, 번호, 반 정보)가 바뀌거나 삭제되었을 때 발행
+public class StudentPrincipalChangedEvent {
+    private List<String> deviceUuids;
+}
@@ -0,0 +1,16 @@
+package com.ssafy.icethang.domain.student.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+// 학생(또는 반 전체)이 삭제되었을 때 발행
+public class StudentRemovedEvent {
+    private Long groupId;
+    private Integer schoolId;
+    private List<Long> studentIds;
+    private boolean classDeleted;
+}
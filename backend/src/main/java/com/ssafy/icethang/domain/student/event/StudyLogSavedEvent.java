@@ -0,0 +1,16 @@
+package com.ssafy.icethang.domain.student.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+// 학습 로그가 저장되었을 때 발행 (수업 종료 정산, 선생님 경험치 부여)
+public class StudyLogSavedEvent {
+    private Long groupId;
+    private List<Long> studentIds;
+    private LocalDate date;
+}
@@ -0,0 +1,22 @@
+package com.ssafy.icethang.domain.student.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+// 학생 경험치가 바뀌었을 때 발행 (수업 종료 정산, 선생님 경험치 부여)
+public class XpGrantedEvent {
+    private Long groupId;
+    private List<Grant> grants;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Grant {
+        private Long studentId;
+        private Integer schoolId;
+        private int amount; // 증감량 (선생님 부여는 음수 가능)
+    }
+}
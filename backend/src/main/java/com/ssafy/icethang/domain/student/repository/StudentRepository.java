@@ -1,18 +1,64 @@
 package com.ssafy.icethang.domain.student.repository;
 
 
+import com.ssafy.icethang.domain.student.dto.response.StudentPrincipalDto;
+import com.ssafy.icethang.domain.student.dto.response.StudentXpRow;
 import com.ssafy.icethang.domain.student.entity.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
     Optional<Student> findByDeviceUuid(String deviceUuid);
 
+    // 로그인용 학생 기본 정보 (엔티티/지연 로딩 없이 한 번에)
+    @Query("SELECT new com.ssafy.icethang.domain.student.dto.response.StudentPrincipalDto(" +
+            "s.id, s.deviceUuid, s.name, s.studentNumber, g.id, g.grade, g.classNum, s.schoolId) " +
+            "FROM Student s LEFT JOIN s.classGroup g WHERE s.deviceUuid = :deviceUuid")
+    Optional<StudentPrincipalDto> findPrincipalByDeviceUuid(@Param("deviceUuid") String deviceUuid);
+
     // 기기번호 중복 체크
     boolean existsByDeviceUuid(String deviceUuid);
 
     // 반 id로 학생 목록 찾기 위함
     List<Student> findAllByClassGroupId(Long classGroupId);
+
+    // 리더보드 재구성용 (엔티티 대신 필요한 컬럼만)
+    String XP_ROW_SELECT = "SELECT new com.ssafy.icethang.domain.student.dto.response.StudentXpRow(" +
+            "s.id, s.classGroup.id, s.schoolId, s.currentXp) FROM Student s ";
+
+    // 새벽 재구성 대상 반/학교 (리더보드마다 따로 다시 읽음)
+    @Query("SELECT DISTINCT s.classGroup.id FROM Student s WHERE s.classGroup IS NOT NULL")
+    List<Long> findAllGroupIds();
+
+    @Query("SELECT DISTINCT s.schoolId FROM Student s WHERE s.schoolId IS NOT NULL")
+    List<Integer> findAllSchoolIds();
+
+    @Query(XP_ROW_SELECT + "WHERE s.classGroup.id = :groupId")
+    List<StudentXpRow> findXpRowsByGroupId(@Param("groupId") Long groupId);
+
+    @Query(XP_ROW_SELECT + "WHERE s.schoolId = :schoolId")
+    List<StudentXpRow> findXpRowsBySchoolId(@Param("schoolId") Integer schoolId);
+
+    @Query(XP_ROW_SELECT + "WHERE s.id IN :ids")
+    List<StudentXpRow> findXpRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 여러 UPDATE 로 나눠 부여할 때 교착 방지용으로 id 순서대로 먼저 잠금
+    @Query(value = "SELECT student_id FROM students WHERE student_id IN (:ids) ORDER BY student_id FOR UPDATE", nativeQuery = true)
+    List<Long> lockAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 경험치 원자적 증가 (읽고-쓰기 없이 DB에서 바로 더함, 동시 부여 시 유실 없음)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Student s SET s.currentXp = s.currentXp + :amount WHERE s.id IN :ids")
+    int incrementXp(@Param("ids") Collection<Long> ids, @Param("amount") int amount);
+
+    // 레벨이 실제로 바뀌는 학생만 갱신
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Student s SET s.currentLevel = :level WHERE s.id IN :ids AND s.currentLevel <> :level")
+    int updateLevel(@Param("ids") Collection<Long> ids, @Param("level") int level);
 }
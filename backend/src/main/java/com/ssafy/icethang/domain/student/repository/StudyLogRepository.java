@@ -1,13 +1,23 @@
 package com.ssafy.icethang.domain.student.repository;
 
+import com.ssafy.icethang.domain.monitoring.dto.AlertType;
+import com.ssafy.icethang.domain.statistics.dto.response.StudyLogExportRow;
 import com.ssafy.icethang.domain.student.entity.Student;
 import com.ssafy.icethang.domain.student.entity.StudyLog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface StudyLogRepository extends JpaRepository<StudyLog, Long> {
 
@@ -20,5 +30,55 @@ public interface StudyLogRepository extends JpaRepository<StudyLog, Long> {
 
     Optional<StudyLog> findTopByStudentOrderByCreatedAtDesc(Student student);
 
-    List<StudyLog> findAllByStudentOrderByCreatedAtDesc(Student student);
-}
\ No newline at end of file
+    // 학습 로그 목록 (최신순 커서 페이지네이션, limit 은 Pageable 크기로)
+    @Query("SELECT l FROM StudyLog l WHERE l.student.id = :studentId ORDER BY l.createdAt DESC, l.id DESC")
+    List<StudyLog> findLatestByStudentId(@Param("studentId") Long studentId, Pageable pageable);
+
+    @Query("SELECT l FROM StudyLog l WHERE l.student.id = :studentId " +
+            "AND (l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.id < :logId)) " +
+            "ORDER BY l.createdAt DESC, l.id DESC")
+    List<StudyLog> findLatestByStudentIdBefore(@Param("studentId") Long studentId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("logId") Long logId,
+                                               Pageable pageable);
+
+    // 동기화용: 마지막으로 받은 로그 이후 새로 생긴 로그 (id 오름차순)
+    @Query("SELECT l FROM StudyLog l WHERE l.student.id = :studentId AND l.id > :afterId ORDER BY l.id ASC")
+    List<StudyLog> findByStudentIdAfter(@Param("studentId") Long studentId,
+                                        @Param("afterId") Long afterId,
+                                        Pageable pageable);
+
+    // 리포트 내보내기용 스트리밍 조회
+    // MySQL은 fetchSize = Integer.MIN_VALUE 일 때만 결과를 한 줄씩 받아옴 (전체 버퍼링 X)
+    String EXPORT_SELECT = "SELECT new com.ssafy.icethang.domain.statistics.dto.response.StudyLogExportRow(" +
+            "l.id, s.id, s.name, s.studentNumber, g.id, g.grade, g.classNum, l.date, l.classNo, l.subject, " +
+            "l.startTime, l.endTime, l.focusRate, l.outOfSeatCount, l.reason, " +
+            "SUM(CASE WHEN e.eventType = :away THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN e.eventType = :unfocus THEN 1 ELSE 0 END)) " +
+            "FROM StudyLog l JOIN l.student s JOIN s.classGroup g " +
+            "LEFT JOIN ClassEventLog e ON e.studyLog = l ";
+    String EXPORT_GROUP_BY = "GROUP BY l.id, s.id, s.name, s.studentNumber, g.id, g.grade, g.classNum, l.date, l.classNo, " +
+            "l.subject, l.startTime, l.endTime, l.focusRate, l.outOfSeatCount, l.reason ";
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query(EXPORT_SELECT +
+            "WHERE g.id = :classId AND l.date BETWEEN :start AND :end " +
+            EXPORT_GROUP_BY +
+            "ORDER BY l.date, l.classNo, s.studentNumber")
+    Stream<StudyLogExportRow> streamExportRowsByClass(@Param("classId") Long classId,
+                                                      @Param("start") LocalDate start,
+                                                      @Param("end") LocalDate end,
+                                                      @Param("away") AlertType away,
+                                                      @Param("unfocus") AlertType unfocus);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query(EXPORT_SELECT +
+            "WHERE s.schoolId = :schoolId AND l.date BETWEEN :start AND :end " +
+            EXPORT_GROUP_BY +
+            "ORDER BY g.grade, g.classNum, l.date, l.classNo, s.studentNumber")
+    Stream<StudyLogExportRow> streamExportRowsBySchool(@Param("schoolId") Integer schoolId,
+                                                       @Param("start") LocalDate start,
+                                                       @Param("end") LocalDate end,
+                                                       @Param("away") AlertType away,
+                                                       @Param("unfocus") AlertType unfocus);
+}
@@ -0,0 +1,339 @@
+package com.ssafy.icethang.domain.student.service;
+
+import com.ssafy.icethang.domain.auth.repository.AuthRepository;
+import com.ssafy.icethang.domain.classgroup.repository.ClassGroupRepository;
+import com.ssafy.icethang.domain.student.dto.response.LeaderboardEntryResponse;
+import com.ssafy.icethang.domain.student.dto.response.LeaderboardRankResponse;
+import com.ssafy.icethang.domain.student.dto.response.StudentPrincipalDto;
+import com.ssafy.icethang.domain.student.dto.response.StudentXpRow;
+import com.ssafy.icethang.domain.student.entity.Student;
+import com.ssafy.icethang.domain.student.event.StudentRemovedEvent;
+import com.ssafy.icethang.domain.student.event.XpGrantedEvent;
+import com.ssafy.icethang.domain.student.repository.StudentRepository;
+import com.ssafy.icethang.global.exception.BadRequestException;
+import com.ssafy.icethang.global.exception.ForbiddenException;
+import com.ssafy.icethang.global.exception.ResourceNotFoundException;
+import com.ssafy.icethang.global.redis.SingleFlight;
+import com.ssafy.icethang.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+// 경험치 리더보드 (redis sorted set, 반/학교 단위)
+// 점수 = currentXp, 조회는 모두 O(log n)
+public class LeaderboardService {
+
+    private static final String CLASS_KEY = "leaderboard:class:";
+    private static final String SCHOOL_KEY = "leaderboard:school:";
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_RANGE = 10;
+    // 재구성 중 표시 ({key}:rebuilding) 와 그동안 들어온 증감량 ({key}:pending)
+    private static final String REBUILDING_SUFFIX = ":rebuilding";
+    private static final String PENDING_SUFFIX = ":pending";
+    // 재구성하던 서버가 죽어도 이 시간 뒤에는 표시가 사라짐 (반/학교 하나 재구성은 1초 안쪽)
+    private static final int REBUILD_TTL_SECONDS = 60;
+
+    // 키가 있을 때만 증가 (키가 없으면 첫 조회 때 DB에서 통째로 채우므로 일부만 생기지 않게)
+    // 재구성 중이면 증감량을 따로 모아둠 -> DB 를 읽은 뒤 교체 전까지 들어온 증가분이 덮어써지지 않게 교체 직전에 더함
+    private static final String INCR_IF_EXISTS_SCRIPT =
+            "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "redis.call('ZINCRBY', KEYS[3], ARGV[1], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[3], " + REBUILD_TTL_SECONDS + ") end " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "return redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[2]) end " +
+            "return false";
+
+    // 재구성 마무리: 모아둔 증감량을 임시 키에 더한 뒤 교체 (내가 시작한 재구성일 때만)
+    // KEYS: 임시 키, 리더보드 키, 재구성 중 표시, 모아둔 증감량 / ARGV: 재구성 토큰
+    private static final DefaultRedisScript<Long> SWAP = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[3]) ~= ARGV[1] then
+              redis.call('DEL', KEYS[1])
+              return 0
+            end
+            if redis.call('EXISTS', KEYS[4]) == 1 then
+              redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[1], KEYS[4])
+            end
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+              redis.call('RENAME', KEYS[1], KEYS[2])
+            else
+              redis.call('DEL', KEYS[2])
+            end
+            redis.call('DEL', KEYS[3], KEYS[4])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final StudentRepository studentRepository;
+    private final StudentPrincipalCache studentPrincipalCache;
+    private final ClassGroupRepository classGroupRepository;
+    private final AuthRepository authRepository;
+    private final SingleFlight singleFlight;
+
+    // 경험치 반영이 커밋된 뒤 증감량만큼 점수 증가 (순서가 바뀌어도 결과 동일)
+    @TransactionalEventListener
+    public void onXpGranted(XpGrantedEvent event) {
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection conn = (StringRedisConnection) connection;
+                for (XpGrantedEvent.Grant grant : event.getGrants()) {
+                    String member = String.valueOf(grant.getStudentId());
+                    String amount = String.valueOf(grant.getAmount());
+                    increment(conn, CLASS_KEY + event.getGroupId(), amount, member);
+                    if (grant.getSchoolId() != null) {
+                        increment(conn, SCHOOL_KEY + grant.getSchoolId(), amount, member);
+                    }
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            // 새벽 재구성 작업에서 DB 기준으로 다시 맞춰짐
+            log.warn("리더보드 갱신 실패: group={}", event.getGroupId(), e);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStudentRemoved(StudentRemovedEvent event) {
+        try {
+            String[] members = event.getStudentIds().stream().map(String::valueOf).toArray(String[]::new);
+            if (event.isClassDeleted()) {
+                stringRedisTemplate.delete(CLASS_KEY + event.getGroupId());
+            } else if (members.length > 0) {
+                stringRedisTemplate.opsForZSet().remove(CLASS_KEY + event.getGroupId(), (Object[]) members);
+            }
+            if (event.getSchoolId() != null && members.length > 0) {
+                stringRedisTemplate.opsForZSet().remove(SCHOOL_KEY + event.getSchoolId(), (Object[]) members);
+            }
+        } catch (Exception e) {
+            log.warn("리더보드 삭제 반영 실패: group={}", event.getGroupId(), e);
+        }
+    }
+
+    /**
+     * 반 리더보드 권한 확인 (학생은 자기 반, 선생님은 담당 반)
+     * 이름과 경험치가 노출되므로 조회 전에 반드시 호출
+     */
+    public void validateClassAccess(Long groupId, UserPrincipal principal) {
+        if (isStudent(principal)) {
+            StudentPrincipalDto student = studentPrincipalCache.get(principal.getEmail())
+                    .orElseThrow(() -> new ForbiddenException("등록되지 않은 기기입니다."));
+            if (!groupId.equals(student.getClassId())) {
+                throw new ForbiddenException("소속 반의 순위만 조회할 수 있습니다.");
+            }
+            return;
+        }
+        if (!classGroupRepository.existsByIdAndTeacherId(groupId, principal.getId())) {
+            throw new ForbiddenException("담당 반의 순위만 조회할 수 있습니다.");
+        }
+    }
+
+    // 학교 리더보드 권한 확인 (학생/선생님 모두 소속 학교만)
+    public void validateSchoolAccess(Integer schoolId, UserPrincipal principal) {
+        Integer memberSchoolId = isStudent(principal)
+                ? studentPrincipalCache.get(principal.getEmail()).map(StudentPrincipalDto::getSchoolId).orElse(null)
+                : authRepository.findSchoolIdById(principal.getId()).orElse(null);
+        if (!schoolId.equals(memberSchoolId)) {
+            throw new ForbiddenException("소속 학교의 순위만 조회할 수 있습니다.");
+        }
+    }
+
+    public List<LeaderboardEntryResponse> getClassTop(Long groupId, int limit) {
+        String key = CLASS_KEY + groupId;
+        ensureLoaded(key, () -> studentRepository.findXpRowsByGroupId(groupId));
+        return top(key, limit);
+    }
+
+    public List<LeaderboardEntryResponse> getSchoolTop(Integer schoolId, int limit) {
+        String key = SCHOOL_KEY + schoolId;
+        ensureLoaded(key, () -> studentRepository.findXpRowsBySchoolId(schoolId));
+        return top(key, limit);
+    }
+
+    public LeaderboardRankResponse getClassRank(Long groupId, Long studentId, int range) {
+        String key = CLASS_KEY + groupId;
+        ensureLoaded(key, () -> studentRepository.findXpRowsByGroupId(groupId));
+        return rank(key, studentId, range);
+    }
+
+    public LeaderboardRankResponse getSchoolRank(Integer schoolId, Long studentId, int range) {
+        String key = SCHOOL_KEY + schoolId;
+        ensureLoaded(key, () -> studentRepository.findXpRowsBySchoolId(schoolId));
+        return rank(key, studentId, range);
+    }
+
+    /**
+     * DB 기준 전체 재구성 (redis 장애/유실 후 정합성 복구)
+     * 임시 키에 만든 뒤 RENAME 으로 교체해서 재구성 중에도 조회 가능
+     * 재구성 중 표시를 한 뒤에 DB 를 읽어야 하므로 전체를 한 번에 읽지 않고 리더보드마다 따로 읽음
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    public void rebuildAll() {
+        long started = System.currentTimeMillis();
+        List<Long> groupIds = studentRepository.findAllGroupIds();
+        List<Integer> schoolIds = studentRepository.findAllSchoolIds();
+
+        groupIds.forEach(groupId -> rebuildQuietly(CLASS_KEY + groupId, () -> studentRepository.findXpRowsByGroupId(groupId)));
+        schoolIds.forEach(schoolId -> rebuildQuietly(SCHOOL_KEY + schoolId, () -> studentRepository.findXpRowsBySchoolId(schoolId)));
+
+        log.info("리더보드 재구성 완료: 반 {}개, 학교 {}개 ({}ms)",
+                groupIds.size(), schoolIds.size(), System.currentTimeMillis() - started);
+    }
+
+    // 학생 토큰의 subject(email 자리)는 기기 UUID
+    private static boolean isStudent(UserPrincipal principal) {
+        return principal.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_STUDENT".equals(a.getAuthority()));
+    }
+
+    private static void increment(StringRedisConnection conn, String key, String amount, String member) {
+        conn.eval(INCR_IF_EXISTS_SCRIPT, ReturnType.VALUE, 3,
+                key, key + REBUILDING_SUFFIX, key + PENDING_SUFFIX, amount, member);
+    }
+
+    // 키가 없으면 (redis 재시작 등) 해당 리더보드만 DB에서 다시 채움
+    // 같은 리더보드를 동시에 처음 조회해도 재구성은 한 번만 (나머지는 결과를 같이 기다림)
+    private void ensureLoaded(String key, Supplier<List<StudentXpRow>> loader) {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            return;
+        }
+        singleFlight.execute(key, () -> {
+            // 기다리는 동안 다른 요청/서버가 채웠으면 그대로 사용
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+                rebuild(key, loader);
+            }
+            return null;
+        });
+    }
+
+    private void rebuildQuietly(String key, Supplier<List<StudentXpRow>> loader) {
+        try {
+            singleFlight.execute(key, () -> {
+                rebuild(key, loader);
+                return null;
+            });
+        } catch (Exception e) {
+            // 기존 리더보드를 그대로 두고 다음 재구성 때 다시
+            log.warn("리더보드 재구성 실패: key={}", key, e);
+        }
+    }
+
+    // 재구성 중 표시 -> DB 읽기 -> 임시 키(재구성마다 다른 이름)에 채움 -> 그동안 모인 증감량을 더해서 교체
+    private void rebuild(String key, Supplier<List<StudentXpRow>> loader) {
+        String token = UUID.randomUUID().toString();
+        String tempKey = key + ":rebuild:" + token;
+        String rebuildingKey = key + REBUILDING_SUFFIX;
+        String pendingKey = key + PENDING_SUFFIX;
+
+        stringRedisTemplate.delete(pendingKey);
+        stringRedisTemplate.opsForValue().set(rebuildingKey, token, Duration.ofSeconds(REBUILD_TTL_SECONDS));
+
+        List<StudentXpRow> rows = loader.get();
+        if (!rows.isEmpty()) {
+            Set<TypedTuple<String>> tuples = rows.stream()
+                    .map(r -> TypedTuple.of(String.valueOf(r.getStudentId()), (double) r.getCurrentXp()))
+                    .collect(Collectors.toSet());
+            stringRedisTemplate.opsForZSet().add(tempKey, tuples);
+        }
+
+        Long swapped = stringRedisTemplate.execute(SWAP, List.of(tempKey, key, rebuildingKey, pendingKey), token);
+        if (!Long.valueOf(1).equals(swapped)) {
+            // 표시가 만료됐거나 다른 재구성이 덮어씀 -> 모아둔 증감량을 믿을 수 없으므로 교체하지 않음
+            log.warn("리더보드 재구성 교체 건너뜀: key={}", key);
+        }
+    }
+
+    private List<LeaderboardEntryResponse> top(String key, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("조회 인원은 1 ~ " + MAX_LIMIT + "명 사이여야 합니다.");
+        }
+        Set<TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1);
+        return toEntries(key, 0, tuples);
+    }
+
+    private LeaderboardRankResponse rank(String key, Long studentId, int range) {
+        if (range < 0 || range > MAX_RANGE) {
+            throw new BadRequestException("주변 인원 범위는 0 ~ " + MAX_RANGE + " 사이여야 합니다.");
+        }
+        String member = String.valueOf(studentId);
+        Long index = stringRedisTemplate.opsForZSet().reverseRank(key, member);
+        Double score = stringRedisTemplate.opsForZSet().score(key, member);
+        if (index == null || score == null) {
+            throw new ResourceNotFoundException("리더보드에 해당 학생이 없습니다.");
+        }
+
+        long start = Math.max(0, index - range);
+        Set<TypedTuple<String>> tuples = stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, start, index + range);
+
+        return LeaderboardRankResponse.builder()
+                .studentId(studentId)
+                .rank(competitionRank(key, score))
+                .xp(score.longValue())
+                .total(stringRedisTemplate.opsForZSet().zCard(key))
+                .neighbors(toEntries(key, start, tuples))
+                .build();
+    }
+
+    // 동점자는 같은 순위 (나보다 점수가 높은 인원 + 1)
+    private long competitionRank(String key, double score) {
+        Long higher = stringRedisTemplate.opsForZSet().count(key, Math.nextUp(score), Double.POSITIVE_INFINITY);
+        return (higher == null ? 0 : higher) + 1;
+    }
+
+    // start: 조회 구간의 시작 위치 (0부터, 높은 점수 순)
+    private List<LeaderboardEntryResponse> toEntries(String key, long start, Collection<TypedTuple<String>> tuples) {
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = tuples.stream().map(t -> Long.valueOf(t.getValue())).toList();
+        Map<Long, Student> students = studentRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Student::getId, Function.identity()));
+
+        List<LeaderboardEntryResponse> entries = new ArrayList<>();
+        Double previousScore = null;
+        long position = start;
+        long rank = 0;
+        for (TypedTuple<String> tuple : tuples) {
+            double score = tuple.getScore() == null ? 0 : tuple.getScore();
+            // 구간 첫 줄은 앞쪽에 동점자가 있을 수 있어 직접 계산, 이후는 점수가 바뀌면 위치 = 순위
+            if (previousScore == null) {
+                rank = position == 0 ? 1 : competitionRank(key, score);
+            } else if (score != previousScore) {
+                rank = position + 1;
+            }
+            position++;
+            previousScore = score;
+
+            Long studentId = Long.valueOf(tuple.getValue());
+            Student student = students.get(studentId);
+            entries.add(LeaderboardEntryResponse.builder()
+                    .rank(rank)
+                    .studentId(studentId)
+                    .name(student != null ? student.getName() : null)
+                    .studentNumber(student != null ? student.getStudentNumber() : null)
+                    .xp((long) score)
+                    .build());
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,101 @@
+package com.ssafy.icethang.domain.student.service;
+
+import com.ssafy.icethang.domain.student.entity.LevelRules;
+import com.ssafy.icethang.domain.student.repository.LevelRulesRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 레벨 규칙 메모리 인덱스 (경험치 -> 레벨을 DB 조회 없이 이진 탐색으로 계산)
+public class LevelRulesIndex {
+
+    private static final int DEFAULT_LEVEL = 1;
+
+    private final LevelRulesRepository levelRulesRepository;
+
+    // 통째로 교체만 하므로 읽는 쪽은 잠금 없이 사용
+    private volatile Snapshot snapshot = new Snapshot(new int[0], new int[0]);
+
+    // 첫 로드가 실패하면 서버 시작을 중단 (빈 규칙으로 계산하면 모든 학생이 1레벨로 내려감)
+    @PostConstruct
+    void init() {
+        load();
+    }
+
+    // 규칙 테이블이 작아서 주기적으로 전체 다시 읽음
+    @Scheduled(fixedDelay = 5 * 60 * 1000, initialDelay = 5 * 60 * 1000)
+    public void refresh() {
+        try {
+            load();
+        } catch (Exception e) {
+            // 이전 스냅샷 유지
+            log.warn("레벨 규칙 로드 실패", e);
+        }
+    }
+
+    private void load() {
+        List<LevelRules> rules = levelRulesRepository.findAll();
+        snapshot = Snapshot.of(rules);
+        log.debug("레벨 규칙 {}개 로드", rules.size());
+    }
+
+    /**
+     * 경험치로 레벨 계산
+     * 기존 쿼리(findTopByRequiredXpLessThanEqualOrderByLevelDesc)와 같은 의미:
+     * requiredXp <= xp 인 규칙 중 가장 높은 레벨, 없으면 1
+     */
+    public int resolve(int xp) {
+        return snapshot.resolve(xp);
+    }
+
+    private static final class Snapshot {
+        private final int[] requiredXp;   // 오름차순
+        private final int[] maxLevelUpTo; // requiredXp[0..i] 중 가장 높은 레벨
+
+        private Snapshot(int[] requiredXp, int[] maxLevelUpTo) {
+            this.requiredXp = requiredXp;
+            this.maxLevelUpTo = maxLevelUpTo;
+        }
+
+        static Snapshot of(List<LevelRules> rules) {
+            LevelRules[] sorted = rules.toArray(new LevelRules[0]);
+            Arrays.sort(sorted, Comparator.comparingInt(LevelRules::getRequiredXp));
+
+            int[] requiredXp = new int[sorted.length];
+            int[] maxLevelUpTo = new int[sorted.length];
+            int max = Integer.MIN_VALUE;
+            for (int i = 0; i < sorted.length; i++) {
+                requiredXp[i] = sorted[i].getRequiredXp();
+                max = Math.max(max, sorted[i].getLevel());
+                maxLevelUpTo[i] = max;
+            }
+            return new Snapshot(requiredXp, maxLevelUpTo);
+        }
+
+        int resolve(int xp) {
+            // xp 이하인 마지막 위치 찾기
+            int lo = 0;
+            int hi = requiredXp.length - 1;
+            int found = -1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (requiredXp[mid] <= xp) {
+                    found = mid;
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return found < 0 ? DEFAULT_LEVEL : maxLevelUpTo[found];
+        }
+    }
+}
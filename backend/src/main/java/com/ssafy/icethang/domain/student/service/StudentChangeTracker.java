@@ -0,0 +1,150 @@
+package com.ssafy.icethang.domain.student.service;
+
+import com.ssafy.icethang.domain.student.event.StudentRemovedEvent;
+import com.ssafy.icethang.domain.student.event.StudyLogSavedEvent;
+import com.ssafy.icethang.domain.student.event.XpGrantedEvent;
+import com.ssafy.icethang.domain.theme.event.ThemeEquippedEvent;
+import com.ssafy.icethang.domain.theme.event.ThemeUnlockedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 학생별 변경 카운터 (redis hash: student:changes:{studentId})
+// seq 는 학생마다 변경이 있을 때마다 1씩 증가, 각 항목 필드에는 마지막으로 바뀐 시점의 seq 를 기록
+// epoch 는 hash 가 새로 만들어질 때 정해지고, 클라이언트 토큰의 epoch 가 다르면(만료/유실) 전체 동기화
+public class StudentChangeTracker {
+
+    private static final String KEY_PREFIX = "student:changes:";
+    private static final Duration TTL = Duration.ofDays(30);
+
+    // 동기화 대상 항목
+    public enum Section { XP, THEMES, EQUIP, LOGS }
+
+    // 없으면 새 epoch 로 만들고, seq 증가 후 바뀐 항목에 기록
+    private static final DefaultRedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSETNX', KEYS[1], 'epoch', ARGV[1])
+            local seq = redis.call('HINCRBY', KEYS[1], 'seq', 1)
+            for i = 3, #ARGV do
+              redis.call('HSET', KEYS[1], ARGV[i], seq)
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return seq
+            """, Long.class);
+
+    // 조회 시 없으면 seq 0 으로 만들어 둠 (이후 변경은 모두 1 이상)
+    private static final DefaultRedisScript<List> READ_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HSETNX', KEYS[1], 'epoch', ARGV[1]) == 1 then
+              redis.call('HSET', KEYS[1], 'seq', 0)
+            end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return redis.call('HGETALL', KEYS[1])
+            """, List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 현재 카운터 (redis 장애 시 null -> 전체 동기화)
+     */
+    public Counters read(Long studentId) {
+        try {
+            List<?> entries = stringRedisTemplate.execute(READ_SCRIPT, List.of(KEY_PREFIX + studentId),
+                    newEpoch(), String.valueOf(TTL.toSeconds()));
+            if (entries == null) {
+                return null;
+            }
+            String epoch = null;
+            long seq = 0;
+            Map<Section, Long> changedAt = new EnumMap<>(Section.class);
+            for (int i = 0; i + 1 < entries.size(); i += 2) {
+                String field = String.valueOf(entries.get(i));
+                String value = String.valueOf(entries.get(i + 1));
+                switch (field) {
+                    case "epoch" -> epoch = value;
+                    case "seq" -> seq = Long.parseLong(value);
+                    default -> changedAt.put(Section.valueOf(field), Long.parseLong(value));
+                }
+            }
+            return epoch == null ? null : new Counters(epoch, seq, changedAt);
+        } catch (Exception e) {
+            log.warn("학생 변경 카운터 조회 실패: student={}", studentId, e);
+            return null;
+        }
+    }
+
+    public void bump(Long studentId, Section... sections) {
+        List<String> args = new ArrayList<>(sections.length + 2);
+        args.add(newEpoch());
+        args.add(String.valueOf(TTL.toSeconds()));
+        for (Section section : sections) {
+            args.add(section.name());
+        }
+        try {
+            stringRedisTemplate.execute(BUMP_SCRIPT, List.of(KEY_PREFIX + studentId), args.toArray());
+        } catch (Exception e) {
+            // 기록을 못 하면 hash 를 지워서 다음 동기화가 새 epoch(전체 동기화)가 되도록
+            log.warn("학생 변경 카운터 갱신 실패: student={}", studentId, e);
+            delete(List.of(studentId));
+        }
+    }
+
+    // 모두 커밋된 뒤에 올려야 옛 데이터에 새 seq 가 붙는 일이 없음
+    @TransactionalEventListener
+    public void onXpGranted(XpGrantedEvent event) {
+        event.getGrants().forEach(grant -> bump(grant.getStudentId(), Section.XP));
+    }
+
+    @TransactionalEventListener
+    public void onStudyLogSaved(StudyLogSavedEvent event) {
+        event.getStudentIds().forEach(studentId -> bump(studentId, Section.LOGS));
+    }
+
+    @TransactionalEventListener
+    public void onThemeUnlocked(ThemeUnlockedEvent event) {
+        bump(event.getStudentId(), Section.THEMES);
+    }
+
+    @TransactionalEventListener
+    public void onThemeEquipped(ThemeEquippedEvent event) {
+        bump(event.getStudentId(), Section.EQUIP);
+    }
+
+    @TransactionalEventListener
+    public void onStudentRemoved(StudentRemovedEvent event) {
+        delete(event.getStudentIds());
+    }
+
+    private void delete(List<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(studentIds.stream().map(id -> KEY_PREFIX + id).toList());
+        } catch (Exception e) {
+            log.warn("학생 변경 카운터 삭제 실패: {}명", studentIds.size(), e);
+        }
+    }
+
+    private static String newEpoch() {
+        return Long.toString(System.currentTimeMillis(), 36);
+    }
+
+    public record Counters(String epoch, long seq, Map<Section, Long> changedAt) {
+
+        // since 이후에 바뀐 항목인지 (기록이 없으면 hash 생성 이후 안 바뀐 것)
+        public boolean changedSince(Section section, long since) {
+            return changedAt.getOrDefault(section, 0L) > since;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.ssafy.icethang.domain.student.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.icethang.domain.student.dto.response.StudentPrincipalDto;
+import com.ssafy.icethang.domain.student.event.StudentPrincipalChangedEvent;
+import com.ssafy.icethang.domain.student.repository.StudentRepository;
+import com.ssafy.icethang.global.redis.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 기기 UUID -> 학생 기본 정보 캐시 (L1: 서버 로컬, L2: redis)
+// 아침에 모든 태블릿이 동시에 자동 로그인해도 DB를 거의 타지 않도록
+public class StudentPrincipalCache {
+
+    private static final String CACHE_NAME = "student-principal";
+    private static final String KEY_PREFIX = "student:principal:";
+    private static final Duration REDIS_TTL = Duration.ofDays(1);
+
+    private final StudentRepository studentRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    private final Cache<String, StudentPrincipalDto> localCache = Caffeine.newBuilder()
+            .maximumSize(50_000)
+            .expireAfterWrite(Duration.ofMinutes(30))
+            .build();
+
+    @PostConstruct
+    void init() {
+        cacheInvalidationBus.register(CACHE_NAME, localCache::invalidate);
+    }
+
+    /**
+     * L1 -> L2 -> DB 순서로 조회, 등록되지 않은 기기면 empty
+     */
+    public Optional<StudentPrincipalDto> get(String deviceUuid) {
+        StudentPrincipalDto cached = localCache.getIfPresent(deviceUuid);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        StudentPrincipalDto value = readRedis(deviceUuid);
+        if (value == null) {
+            value = studentRepository.findPrincipalByDeviceUuid(deviceUuid).orElse(null);
+            if (value == null) {
+                return Optional.empty();
+            }
+            writeRedis(deviceUuid, value);
+        }
+
+        localCache.put(deviceUuid, value);
+        return Optional.of(value);
+    }
+
+    // 학생 수정/삭제, 반 정보 수정이 커밋된 뒤 무효화
+    @TransactionalEventListener
+    public void onPrincipalChanged(StudentPrincipalChangedEvent event) {
+        evict(event.getDeviceUuids());
+    }
+
+    public void evict(List<String> deviceUuids) {
+        if (deviceUuids.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(deviceUuids.stream().map(uuid -> KEY_PREFIX + uuid).toList());
+        } catch (Exception e) {
+            log.warn("학생 정보 캐시(redis) 삭제 실패: {}명", deviceUuids.size(), e);
+        }
+        for (String deviceUuid : deviceUuids) {
+            cacheInvalidationBus.publish(CACHE_NAME, deviceUuid);
+        }
+    }
+
+    private StudentPrincipalDto readRedis(String deviceUuid) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + deviceUuid);
+            return json == null ? null : objectMapper.readValue(json, StudentPrincipalDto.class);
+        } catch (Exception e) {
+            log.warn("학생 정보 캐시(redis) 조회 실패: device={}", deviceUuid, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String deviceUuid, StudentPrincipalDto value) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + deviceUuid, objectMapper.writeValueAsString(value), REDIS_TTL);
+        } catch (Exception e) {
+            log.warn("학생 정보 캐시(redis) 저장 실패: device={}", deviceUuid, e);
+        }
+    }
+}
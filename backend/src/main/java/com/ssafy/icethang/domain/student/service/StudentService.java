@@ -5,20 +5,25 @@ import com.ssafy.icethang.domain.auth.entity.Auth;
 import com.ssafy.icethang.domain.student.dto.request.StudentJoinRequest;
 import com.ssafy.icethang.domain.student.dto.request.StudentLoginRequest;
 import com.ssafy.icethang.domain.student.dto.response.StudentLoginResponse;
+import com.ssafy.icethang.domain.student.dto.response.StudentPrincipalDto;
 import com.ssafy.icethang.domain.classgroup.entity.ClassGroup;
+import com.ssafy.icethang.domain.student.dto.response.StudyLogPageResponse;
 import com.ssafy.icethang.domain.student.dto.response.StudyLogResponse;
+import com.ssafy.icethang.domain.student.entity.StudyLog;
 import com.ssafy.icethang.domain.student.entity.Student;
 import com.ssafy.icethang.domain.classgroup.repository.ClassGroupRepository;
 import com.ssafy.icethang.domain.student.repository.StudentRepository;
 import com.ssafy.icethang.domain.student.repository.StudyLogRepository;
 import com.ssafy.icethang.domain.theme.entity.Theme;
 import com.ssafy.icethang.domain.theme.repository.ThemeRepository;
+import com.ssafy.icethang.domain.theme.service.ThemeCatalog;
 import com.ssafy.icethang.global.exception.BadRequestException;
 import com.ssafy.icethang.global.exception.DuplicateResourceException;
 import com.ssafy.icethang.global.exception.ResourceNotFoundException;
-import com.ssafy.icethang.global.redis.RedisService;
+import com.ssafy.icethang.global.security.RefreshTokenService;
 import com.ssafy.icethang.global.security.TokenProvider;
 import com.ssafy.icethang.global.security.UserPrincipal;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -26,7 +31,9 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -39,12 +46,15 @@ public class StudentService {
     private final StudentRepository studentRepository;
     private final ClassGroupRepository classGroupRepository;
     private final TokenProvider tokenProvider;
-    private final RedisService redisService;
+    private final RefreshTokenService refreshTokenService;
     private final StudyLogRepository studyLogRepository;
     private final ThemeRepository themeRepository;
+    private final ThemeCatalog themeCatalog;
+    private final StudentPrincipalCache studentPrincipalCache;
 
     private static final Long DEFAULT_BACKGROUND_ID = 1L;
     private static final Long DEFAULT_CHARACTER_ID = 9L;
+    private static final int MAX_LOG_PAGE_SIZE = 100;
 
     // 최초 로그인
     @Transactional
@@ -71,10 +81,11 @@ public class StudentService {
             throw new BadRequestException("선생님의 학교 정보가 설정되지 않았습니다.");
         }
 
-        Theme defaultBackground = themeRepository.findById(DEFAULT_BACKGROUND_ID)
-                .orElseThrow(() -> new ResourceNotFoundException("기본 배경(ID:1)이 DB에 존재하지 않습니다."));
-        Theme defaultCharacter = themeRepository.findById(DEFAULT_CHARACTER_ID)
-                .orElseThrow(() -> new ResourceNotFoundException("기본 캐릭터(ID:9)가 DB에 존재하지 않습니다."));
+        // 기본 테마 존재 여부는 카탈로그로 확인하고 참조만 연결 (조회 쿼리 없음)
+        themeCatalog.require(DEFAULT_BACKGROUND_ID, Theme.ThemeCategory.BACKGROUND);
+        themeCatalog.require(DEFAULT_CHARACTER_ID, Theme.ThemeCategory.CHARACTER);
+        Theme defaultBackground = themeRepository.getReferenceById(DEFAULT_BACKGROUND_ID);
+        Theme defaultCharacter = themeRepository.getReferenceById(DEFAULT_CHARACTER_ID);
 
         Student student = Student.builder()
                 .name(request.getName())
@@ -88,7 +99,7 @@ public class StudentService {
 
         studentRepository.save(student);
 
-        return createStudentToken(student);
+        return createStudentToken(student.getId(), student.getDeviceUuid());
     }
 
     // 기기번호로 자동 로그인
@@ -97,24 +108,23 @@ public class StudentService {
         if (request.getDeviceUuid() == null || request.getDeviceUuid().isBlank()) {
             throw new BadRequestException("기기 식별 번호가 누락되었습니다.");
         }
-        // 기기로 학생 찾기
-        Student student = studentRepository.findByDeviceUuid(request.getDeviceUuid())
+        // 기기로 학생 찾기 (캐시 우선)
+        StudentPrincipalDto student = studentPrincipalCache.get(request.getDeviceUuid())
                 .orElseThrow(() -> new ResourceNotFoundException( "해당 기기를 찾을 수 없어요!"));
 
-        ClassGroup classGroup = student.getClassGroup();
-        if (classGroup == null) {
+        if (student.getClassId() == null) {
             throw new BadRequestException("소속된 반이 없습니다.");
         }
 
-        return createStudentToken(student);
+        return createStudentToken(student.getStudentId(), student.getDeviceUuid());
     }
 
     // 토큰 생성 및 Redis 저장
-    private TokenResponseDto createStudentToken(Student student) {
+    private TokenResponseDto createStudentToken(Long studentId, String deviceUuid) {
 
         UserPrincipal studentPrincipal = new UserPrincipal(
-                student.getId(),
-                student.getDeviceUuid(),
+                studentId,
+                deviceUuid,
                 "",
                 Collections.singletonList(new SimpleGrantedAuthority("ROLE_STUDENT"))
         );
@@ -126,14 +136,8 @@ public class StudentService {
         );
 
         String accessToken = tokenProvider.createToken(authentication);
-        String refreshToken = tokenProvider.createRefreshToken(authentication);
-
-        // Redis
-        redisService.setValues(
-                student.getDeviceUuid(),
-                refreshToken,
-                Duration.ofDays(7)
-        );
+        // Redis (기기별 family)
+        String refreshToken = refreshTokenService.issue(authentication);
 
         return TokenResponseDto.builder()
                 .accessToken(accessToken)
@@ -141,34 +145,78 @@ public class StudentService {
                 .build();
     }
 
-    // 토큰으로 학생 정보 조회
-    public StudentLoginResponse getStudentInfo(String accessToken) {
-        Authentication authentication = tokenProvider.getAuthentication(accessToken);
-        String deviceUuid = authentication.getName();
-
-        Student student = studentRepository.findByDeviceUuid(deviceUuid)
+    // 로그인 직후 학생 정보 응답 (방금 발급한 토큰을 다시 해석하지 않고 캐시에서 조회)
+    public StudentLoginResponse getStudentInfo(String deviceUuid, String accessToken) {
+        StudentPrincipalDto student = studentPrincipalCache.get(deviceUuid)
                 .orElseThrow(() -> new ResourceNotFoundException("유효하지 않은 토큰(학생)입니다."));
 
         return StudentLoginResponse.builder()
-                .studentId(student.getId())
+                .studentId(student.getStudentId())
                 .studentName(student.getName())
-                .classId(student.getClassGroup().getId())
-                .grade(student.getClassGroup().getGrade())
-                .classNum(student.getClassGroup().getClassNum())
+                .classId(student.getClassId())
+                .grade(student.getGrade())
+                .classNum(student.getClassNum())
                 .studentNumber(student.getStudentNumber())
                 .accessToken(accessToken)
                 .build();
     }
 
-    public List<StudyLogResponse> getStudentStudyLogs(Long studentId) {
+    /**
+     * 학습 로그 목록 (최신순, 커서 기반)
+     * cursor 는 이전 응답의 nextCursor, 첫 페이지는 null
+     */
+    @Transactional(readOnly = true)
+    public StudyLogPageResponse getStudentStudyLogs(Long studentId, String cursor, int size) {
+        if (size < 1 || size > MAX_LOG_PAGE_SIZE) {
+            throw new BadRequestException("페이지 크기는 1 ~ " + MAX_LOG_PAGE_SIZE + " 사이여야 합니다.");
+        }
 
         // 학생 조회
-        Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new ResourceNotFoundException("해당 학생을 찾을 수 없습니다."));
+        if (!studentRepository.existsById(studentId)) {
+            throw new ResourceNotFoundException("해당 학생을 찾을 수 없습니다.");
+        }
+
+        // 다음 페이지 존재 여부 확인용으로 한 개 더 조회
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<StudyLog> logs;
+        if (cursor == null || cursor.isBlank()) {
+            logs = studyLogRepository.findLatestByStudentId(studentId, limit);
+        } else {
+            String[] position = decodeCursor(cursor);
+            logs = studyLogRepository.findLatestByStudentIdBefore(
+                    studentId, LocalDateTime.parse(position[0]), Long.valueOf(position[1]), limit);
+        }
 
-        return studyLogRepository.findAllByStudentOrderByCreatedAtDesc(student)
-                .stream()
-                .map(StudyLogResponse::from)
-                .collect(Collectors.toList());
+        boolean hasNext = logs.size() > size;
+        if (hasNext) {
+            logs = logs.subList(0, size);
+        }
+
+        return StudyLogPageResponse.builder()
+                .logs(logs.stream().map(StudyLogResponse::from).collect(Collectors.toList()))
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? encodeCursor(logs.get(logs.size() - 1)) : null)
+                .build();
+    }
+
+    // 커서 = base64url("createdAt|logId"), 클라이언트는 내용을 몰라도 됨
+    private String encodeCursor(StudyLog last) {
+        String raw = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] position = raw.split("\\|");
+            if (position.length != 2) {
+                throw new IllegalArgumentException();
+            }
+            LocalDateTime.parse(position[0]);
+            Long.parseLong(position[1]);
+            return position;
+        } catch (RuntimeException e) {
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
     }
 }
@@ -0,0 +1,119 @@
+package com.ssafy.icethang.domain.student.service;
+
+import com.ssafy.icethang.domain.student.dto.response.StudentSyncResponse;
+import com.ssafy.icethang.domain.student.dto.response.StudentXpResponse;
+import com.ssafy.icethang.domain.student.dto.response.StudyLogResponse;
+import com.ssafy.icethang.domain.student.entity.Student;
+import com.ssafy.icethang.domain.student.entity.StudyLog;
+import com.ssafy.icethang.domain.student.repository.StudentRepository;
+import com.ssafy.icethang.domain.student.repository.StudyLogRepository;
+import com.ssafy.icethang.domain.student.service.StudentChangeTracker.Counters;
+import com.ssafy.icethang.domain.student.service.StudentChangeTracker.Section;
+import com.ssafy.icethang.domain.theme.service.ThemeCatalog;
+import com.ssafy.icethang.domain.theme.service.ThemeOwnershipIndex;
+import com.ssafy.icethang.global.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+// 학생 앱 델타 동기화
+// 토큰 = "epoch.seq.마지막 로그 id", 클라이언트 seq 이후에 바뀐 항목만 조회해서 응답
+public class StudentSyncService {
+
+    // 한 번에 내려주는 학습 로그 최대 개수 (넘으면 logsReset)
+    private static final int MAX_SYNC_LOGS = 50;
+
+    private final StudentChangeTracker studentChangeTracker;
+    private final StudentRepository studentRepository;
+    private final StudyLogRepository studyLogRepository;
+    private final ThemeOwnershipIndex themeOwnershipIndex;
+    private final ThemeCatalog themeCatalog;
+
+    @Transactional(readOnly = true)
+    public StudentSyncResponse sync(Long studentId, String since) {
+        // 카운터를 데이터보다 먼저 읽어야 그 사이 변경이 다음 동기화에서 다시 내려감 (빠뜨리지 않음)
+        Counters counters = studentChangeTracker.read(studentId);
+        SyncToken token = SyncToken.parse(since);
+        boolean full = counters == null || token == null
+                || !token.epoch().equals(counters.epoch()) || token.seq() > counters.seq();
+        long sinceSeq = full ? -1 : token.seq();
+
+        StudentSyncResponse.StudentSyncResponseBuilder response = StudentSyncResponse.builder()
+                .full(full)
+                .themeCatalogVersion(themeCatalog.snapshot().version());
+
+        boolean xpChanged = full || counters.changedSince(Section.XP, sinceSeq);
+        boolean equipChanged = full || counters.changedSince(Section.EQUIP, sinceSeq);
+        if (xpChanged || equipChanged) {
+            Student student = studentRepository.findById(studentId)
+                    .orElseThrow(() -> new ResourceNotFoundException("해당 학생을 찾을 수 없습니다."));
+            if (xpChanged) {
+                response.xp(StudentXpResponse.builder()
+                        .currentLevel(student.getCurrentLevel())
+                        .currentXp(student.getCurrentXp())
+                        .build());
+            }
+            if (equipChanged) {
+                response.equipped(new StudentSyncResponse.EquippedThemes(
+                        student.getEquippedCharacter() == null ? null : student.getEquippedCharacter().getId(),
+                        student.getEquippedBackground() == null ? null : student.getEquippedBackground().getId()));
+            }
+        }
+
+        if (full || counters.changedSince(Section.THEMES, sinceSeq)) {
+            response.unlockedThemeIds(themeOwnershipIndex.owned(studentId).stream()
+                    .mapToObj(Long::valueOf)
+                    .toList());
+        }
+
+        long lastLogId = full ? 0 : token.lastLogId();
+        if (full || counters.changedSince(Section.LOGS, sinceSeq)) {
+            List<StudyLog> logs = full
+                    ? List.of()
+                    : studyLogRepository.findByStudentIdAfter(studentId, lastLogId, PageRequest.of(0, MAX_SYNC_LOGS + 1));
+            if (full || logs.size() > MAX_SYNC_LOGS) {
+                // 처음이거나 밀린 로그가 많으면 최신 로그부터 다시
+                logs = studyLogRepository.findLatestByStudentId(studentId, PageRequest.of(0, MAX_SYNC_LOGS));
+                response.logsReset(true);
+                lastLogId = logs.stream().mapToLong(StudyLog::getId).max().orElse(0);
+            } else if (!logs.isEmpty()) {
+                lastLogId = logs.get(logs.size() - 1).getId();
+            }
+            response.logs(logs.stream().map(StudyLogResponse::from).toList());
+        } else {
+            response.logs(List.of());
+        }
+
+        return response
+                .syncToken(counters == null ? null : new SyncToken(counters.epoch(), counters.seq(), lastLogId).encode())
+                .build();
+    }
+
+    private record SyncToken(String epoch, long seq, long lastLogId) {
+
+        // 형식이 틀리면 null -> 전체 동기화
+        static SyncToken parse(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            String[] parts = value.split("\\.");
+            if (parts.length != 3) {
+                return null;
+            }
+            try {
+                return new SyncToken(parts[0], Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        String encode() {
+            return epoch + "." + seq + "." + lastLogId;
+        }
+    }
+}
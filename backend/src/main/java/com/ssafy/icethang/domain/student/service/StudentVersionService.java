@@ -0,0 +1,93 @@
+package com.ssafy.icethang.domain.student.service;
+
+import com.ssafy.icethang.domain.student.event.StudyLogSavedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+// 학생별 학습 데이터 버전 (조건부 GET 용 ETag / Last-Modified)
+// 값은 epoch millis 이고 학습 로그가 저장될 때마다 증가
+public class StudentVersionService {
+
+    private static final String KEY_PREFIX = "student:version:";
+
+    // 시간이 되돌아가도 항상 이전 값보다 커지도록 max(now, old + 1)
+    private static final DefaultRedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) " +
+            "local old = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "local next = math.max(now, old + 1) " +
+            "redis.call('SET', KEYS[1], next) " +
+            "return next",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 현재 버전 조회 (없으면 지금 시각으로 초기화)
+     * redis 장애 시 null -> 조건부 처리 없이 그냥 계산
+     */
+    public Long getVersion(Long studentId) {
+        String key = KEY_PREFIX + studentId;
+        try {
+            String value = stringRedisTemplate.opsForValue().get(key);
+            if (value == null) {
+                stringRedisTemplate.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+                value = stringRedisTemplate.opsForValue().get(key);
+            }
+            return value == null ? null : Long.valueOf(value);
+        } catch (Exception e) {
+            log.warn("학생 버전 조회 실패: student={}", studentId, e);
+            return null;
+        }
+    }
+
+    /**
+     * If-None-Match / If-Modified-Since 확인
+     * true면 304가 이미 세팅된 상태이므로 컨트롤러는 바로 null 반환
+     */
+    public boolean checkNotModified(WebRequest request, Long studentId) {
+        Long version = getVersion(studentId);
+        if (version == null) {
+            return false;
+        }
+        // 브라우저가 Last-Modified 만 보고 임의로 캐시하지 않고 매번 재검증하도록
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+        return request.checkNotModified("\"s" + studentId + "-" + version + "\"", version);
+    }
+
+    // 커밋된 뒤에 올려야 새 버전으로 옛 데이터가 캐시되는 일이 없음
+    @TransactionalEventListener
+    public void onStudyLogSaved(StudyLogSavedEvent event) {
+        for (Long studentId : event.getStudentIds()) {
+            bump(studentId);
+        }
+    }
+
+    public void bump(Long studentId) {
+        try {
+            stringRedisTemplate.execute(BUMP_SCRIPT, List.of(KEY_PREFIX + studentId),
+                    String.valueOf(System.currentTimeMillis()));
+        } catch (Exception e) {
+            // 실패하면 다음 조회에서 옛 버전으로 304가 나갈 수 있으므로 키를 지워서 새로 초기화되게 함
+            log.warn("학생 버전 갱신 실패: student={}", studentId, e);
+            try {
+                stringRedisTemplate.delete(KEY_PREFIX + studentId);
+            } catch (Exception ignored) {
+                // redis 자체가 죽은 경우 getVersion도 실패하므로 조건부 처리 안 됨
+            }
+        }
+    }
+}
@@ -1,26 +1,38 @@
 package com.ssafy.icethang.domain.student.service;
 
+import com.ssafy.icethang.domain.student.dto.request.ClassXpGrantRequest;
 import com.ssafy.icethang.domain.student.dto.request.StudentXpUpdateRequest;
+import com.ssafy.icethang.domain.student.dto.response.ClassXpGrantResponse;
 import com.ssafy.icethang.domain.student.dto.response.StudentXpResponse;
-import com.ssafy.icethang.domain.student.entity.LevelRules;
+import com.ssafy.icethang.domain.student.dto.response.StudentXpRow;
 import com.ssafy.icethang.domain.student.entity.Student;
 import com.ssafy.icethang.domain.student.entity.StudyLog;
-import com.ssafy.icethang.domain.student.repository.LevelRulesRepository;
+import com.ssafy.icethang.domain.student.event.StudyLogSavedEvent;
+import com.ssafy.icethang.domain.student.event.XpGrantedEvent;
 import com.ssafy.icethang.domain.student.repository.StudentRepository;
 import com.ssafy.icethang.domain.student.repository.StudyLogRepository;
 import com.ssafy.icethang.global.exception.BadRequestException;
 import com.ssafy.icethang.global.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class StudentXpService {
     private final StudentRepository studentRepository;
-    private final LevelRulesRepository levelRulesRepository;
+    private final LevelRulesIndex levelRulesIndex;
     private final StudyLogRepository studyLogRepository;
+    private final XpGrantService xpGrantService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // default 문장 수정 가능
     private static final String DEFAULT_TEACHER_REASON = "수업 good";
@@ -35,46 +47,80 @@ public class StudentXpService {
                 .map(StudyLog::getReason)
                 .orElse("기록된 사유가 없습니다.");
 
-        return buildResponse(student, lastReason);
+        return StudentXpResponse.builder()
+                .currentLevel(student.getCurrentLevel())
+                .currentXp(student.getCurrentXp())
+                .reason(lastReason)
+                .build();
     }
 
     // 선생님이 경험치 추가 부여
     @Transactional
     public StudentXpResponse updateStudentExp(Long classId, Long studentId, StudentXpUpdateRequest request) {
         Student student = validateStudentInClass(classId, studentId);
+        int amount = validateAmount(request.getAmount());
 
         // 학습로그
         String finalReason = StringUtils.hasText(request.getReason())
                 ? request.getReason()
                 : DEFAULT_TEACHER_REASON;
 
-        // 과목 결정
-        String finalSubject = DEFAULT_SUBJECT_LABEL;
-
-        // 교시 결정
-        Integer finalClassNo = 0;
+        StudyLog log = studyLogRepository.save(teacherGrantLog(student, amount, finalReason));
 
-        // student의 currentXp 즉시 변경
-        student.addXp(request.getAmount());
+        // 경험치 원자적 증가 + 레벨 재계산
+        StudentXpRow updated = xpGrantService.grant(List.of(studentId), amount).get(studentId);
 
-        // 새로운 경험치에 맞는 레벨 계산
-        Integer newLevel = levelRulesRepository.findTopByRequiredXpLessThanEqualOrderByLevelDesc(student.getCurrentXp())
-                .map(LevelRules::getLevel)
-                .orElse(1);
-        student.updateLevel(newLevel);
+        eventPublisher.publishEvent(new StudyLogSavedEvent(classId, List.of(studentId), log.getDate()));
+        eventPublisher.publishEvent(new XpGrantedEvent(classId,
+                List.of(new XpGrantedEvent.Grant(studentId, student.getSchoolId(), amount))));
 
-        StudyLog log = StudyLog.builder()
-                .student(student)
-                .subject(finalSubject)
-                .classNo(finalClassNo)
+        return StudentXpResponse.builder()
+                .currentLevel(levelRulesIndex.resolve(updated.getCurrentXp()))
+                .currentXp(updated.getCurrentXp())
                 .reason(finalReason)
-                .timetableId(null)
-                .focusRate(request.getAmount()) // 추가 경험치를 focusRate에 저장
                 .build();
+    }
+
+    // 반 학생들에게 같은 경험치 일괄 부여 (UPDATE 한 번)
+    @Transactional
+    public List<ClassXpGrantResponse> giveXpToClass(Long classId, ClassXpGrantRequest request) {
+        int amount = validateAmount(request.getAmount());
+        String finalReason = StringUtils.hasText(request.getReason())
+                ? request.getReason()
+                : DEFAULT_TEACHER_REASON;
 
-        studyLogRepository.save(log);
+        List<Student> students = studentRepository.findAllByClassGroupId(classId);
+        if (request.getStudentIds() != null && !request.getStudentIds().isEmpty()) {
+            Set<Long> requested = new HashSet<>(request.getStudentIds());
+            students = students.stream().filter(s -> requested.contains(s.getId())).toList();
+            if (students.size() != requested.size()) {
+                throw new BadRequestException("해당 반(ID: " + classId + ") 소속이 아닌 학생이 포함되어 있습니다.");
+            }
+        }
+        if (students.isEmpty()) {
+            return List.of();
+        }
 
-        return buildResponse(student, finalReason);
+        List<StudyLog> logs = studyLogRepository.saveAll(students.stream()
+                .map(s -> teacherGrantLog(s, amount, finalReason))
+                .toList());
+
+        List<Long> studentIds = students.stream().map(Student::getId).toList();
+        Map<Long, StudentXpRow> updated = xpGrantService.grant(studentIds, amount);
+
+        eventPublisher.publishEvent(new StudyLogSavedEvent(classId, studentIds, logs.get(0).getDate()));
+        eventPublisher.publishEvent(new XpGrantedEvent(classId, students.stream()
+                .map(s -> new XpGrantedEvent.Grant(s.getId(), s.getSchoolId(), amount))
+                .collect(Collectors.toList())));
+
+        return studentIds.stream()
+                .map(updated::get)
+                .map(row -> ClassXpGrantResponse.builder()
+                        .studentId(row.getStudentId())
+                        .currentXp(row.getCurrentXp())
+                        .currentLevel(levelRulesIndex.resolve(row.getCurrentXp()))
+                        .build())
+                .toList();
     }
 
     // 학생이 classId에 맞는 학생인지 검증
@@ -88,12 +134,22 @@ public class StudentXpService {
         return student;
     }
 
+    private int validateAmount(Integer amount) {
+        if (amount == null) {
+            throw new BadRequestException("부여할 경험치를 입력해주세요.");
+        }
+        return amount;
+    }
 
-    private StudentXpResponse buildResponse(Student student, String reason) {
-        return StudentXpResponse.builder()
-                .currentLevel(student.getCurrentLevel())
-                .currentXp(student.getCurrentXp())
+    // 선생님 부여 기록 (과목: 추가, 교시: 0)
+    private StudyLog teacherGrantLog(Student student, int amount, String reason) {
+        return StudyLog.builder()
+                .student(student)
+                .subject(DEFAULT_SUBJECT_LABEL)
+                .classNo(0)
                 .reason(reason)
+                .timetableId(null)
+                .focusRate(amount) // 추가 경험치를 focusRate에 저장
                 .build();
     }
 }
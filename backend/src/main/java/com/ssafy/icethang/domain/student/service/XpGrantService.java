@@ -0,0 +1,87 @@
+package com.ssafy.icethang.domain.student.service;
+
+import com.ssafy.icethang.domain.student.dto.response.StudentXpRow;
+import com.ssafy.icethang.domain.student.event.LevelChangedEvent;
+import com.ssafy.icethang.domain.student.repository.StudentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+// 경험치 부여는 모두 여기서 (엔티티에서 더하지 않고 UPDATE ... SET current_xp = current_xp + ? 로 처리)
+// 증가 후 값을 다시 읽어서 레벨까지 맞춤
+// 주의: 벌크 UPDATE 후 영속성 컨텍스트를 비우므로 호출 전에 다른 엔티티 변경은 끝내둘 것
+public class XpGrantService {
+
+    private final StudentRepository studentRepository;
+    private final LevelRulesIndex levelRulesIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 여러 학생에게 같은 양의 경험치 부여 (UPDATE 한 번)
+     * 반환: 학생 id -> 부여 후 경험치/레벨
+     */
+    @Transactional
+    public Map<Long, StudentXpRow> grant(Collection<Long> studentIds, int amount) {
+        if (studentIds.isEmpty()) {
+            return Map.of();
+        }
+        studentRepository.incrementXp(studentIds, amount);
+        Map<Long, Integer> amountByStudentId = new HashMap<>();
+        studentIds.forEach(id -> amountByStudentId.put(id, amount));
+        return refreshLevels(amountByStudentId);
+    }
+
+    /**
+     * 학생마다 다른 양 부여 (수업 종료 정산)
+     * 같은 양끼리 묶어서 UPDATE 하므로 쿼리 수는 서로 다른 양의 개수만큼
+     */
+    @Transactional
+    public Map<Long, StudentXpRow> grantEach(Map<Long, Integer> amountByStudentId) {
+        if (amountByStudentId.isEmpty()) {
+            return Map.of();
+        }
+        Map<Integer, List<Long>> idsByAmount = amountByStudentId.entrySet().stream()
+                .filter(e -> e.getValue() != 0)
+                .collect(Collectors.groupingBy(Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+
+        // 양별 UPDATE 순서가 트랜잭션마다 달라질 수 있으므로 행 잠금은 id 순서로 먼저 잡음
+        studentRepository.lockAllByIdIn(amountByStudentId.keySet());
+        idsByAmount.forEach((amount, ids) -> studentRepository.incrementXp(ids, amount));
+        return refreshLevels(amountByStudentId);
+    }
+
+    // 증가된 경험치를 다시 읽어서 레벨 재계산 (이미 행 잠금을 잡고 있어 다른 부여와 섞이지 않음)
+    // 레벨이 오른 학생이 있으면 같은 트랜잭션 안에서 LevelChangedEvent 발행 (보상 지급)
+    private Map<Long, StudentXpRow> refreshLevels(Map<Long, Integer> amountByStudentId) {
+        List<StudentXpRow> rows = studentRepository.findXpRowsByIdIn(amountByStudentId.keySet());
+
+        Map<Integer, List<Long>> idsByLevel = new HashMap<>();
+        List<LevelChangedEvent.LevelUp> levelUps = new ArrayList<>();
+        for (StudentXpRow row : rows) {
+            int level = levelRulesIndex.resolve(row.getCurrentXp());
+            int previousLevel = levelRulesIndex.resolve(row.getCurrentXp() - amountByStudentId.get(row.getStudentId()));
+            idsByLevel.computeIfAbsent(level, l -> new ArrayList<>()).add(row.getStudentId());
+            if (level > previousLevel) {
+                levelUps.add(new LevelChangedEvent.LevelUp(row.getStudentId(), previousLevel, level));
+            }
+        }
+        idsByLevel.forEach((level, ids) -> studentRepository.updateLevel(ids, level));
+        if (!levelUps.isEmpty()) {
+            eventPublisher.publishEvent(new LevelChangedEvent(levelUps));
+        }
+
+        return rows.stream().collect(Collectors.toMap(StudentXpRow::getStudentId, Function.identity()));
+    }
+}
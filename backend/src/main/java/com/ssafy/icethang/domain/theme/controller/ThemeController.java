@@ -1,12 +1,16 @@
 package com.ssafy.icethang.domain.theme.controller;
 
+import com.ssafy.icethang.domain.theme.dto.response.ThemeManifestResponse;
 import com.ssafy.icethang.domain.theme.dto.response.ThemeResponse;
 import com.ssafy.icethang.domain.theme.service.ThemeService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/themes")
@@ -32,12 +36,36 @@ public class ThemeController {
         return ResponseEntity.ok(response);
     }
 
-    // 전체 배경(테마) 목록 조회
+    // 전체 배경(테마) 목록 조회 (카탈로그 버전이 같으면 304)
     @GetMapping("/backgrounds")
-    public ResponseEntity<List<ThemeResponse>> getAllBackgrounds(
-    ) {
+    public ResponseEntity<List<ThemeResponse>> getAllBackgrounds(WebRequest webRequest) {
+        String etag = "\"themes-" + themeService.getCatalogVersion() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<ThemeResponse> response = themeService.getAllBackgrounds();
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response);
+    }
+
+    // 테마 에셋 목록
+    // ?v={version} 으로 요청하면 내용이 절대 바뀌지 않으므로 오래 캐시, 아니면 매번 ETag 로 재검증
+    @GetMapping("/manifest")
+    public ResponseEntity<ThemeManifestResponse> getManifest(
+            @RequestParam(value = "v", required = false) String version,
+            WebRequest webRequest
+    ) {
+        ThemeManifestResponse manifest = themeService.getManifest();
+        if (webRequest.checkNotModified("\"themes-" + manifest.getVersion() + "\"")) {
+            return null;
+        }
+        CacheControl cacheControl = manifest.getVersion().equals(version)
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable()
+                : CacheControl.noCache().cachePrivate();
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(manifest);
     }
 
     // 캐릭터 장착
@@ -0,0 +1,14 @@
+package com.ssafy.icethang.domain.theme.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+// 레벨업 보상 알림 (/user/queue/rewards)
+public class LevelRewardNotification {
+    private int level;
+    private List<ThemeCatalogItem> themes;
+}
@@ -0,0 +1,20 @@
+package com.ssafy.icethang.domain.theme.dto.response;
+
+import com.ssafy.icethang.domain.theme.entity.Theme;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// 테마 카탈로그 항목 (불변, 모든 요청이 공유)
+public class ThemeCatalogItem {
+    private final Long themeId;
+    private final String name;
+    private final String assetUrl;
+    private final String assetType;
+    private final Theme.ThemeCategory category;
+
+    public static ThemeCatalogItem from(Theme theme) {
+        return new ThemeCatalogItem(theme.getId(), theme.getName(), theme.getAssetUrl(), theme.getAssetType(), theme.getCategory());
+    }
+}
@@ -0,0 +1,15 @@
+package com.ssafy.icethang.domain.theme.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+// 테마 에셋 목록 (version 이 같으면 내용도 같으므로 클라이언트는 version 기준으로 에셋 캐시)
+public class ThemeManifestResponse {
+    private String version;
+    private List<ThemeCatalogItem> characters;
+    private List<ThemeCatalogItem> backgrounds;
+}
@@ -0,0 +1,34 @@
+package com.ssafy.icethang.domain.theme.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "level_rewards", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_level_reward", columnNames = {"level", "theme_id"})
+})
+// 레벨 도달 보상 (level_rules.level 에 도달하면 theme 지급)
+public class LevelReward {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reward_id")
+    private Long id;
+
+    @Column(name = "level", nullable = false)
+    private Integer level;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "theme_id", nullable = false)
+    private Theme theme;
+
+    @Builder
+    public LevelReward(Integer level, Theme theme) {
+        this.level = level;
+        this.theme = theme;
+    }
+}
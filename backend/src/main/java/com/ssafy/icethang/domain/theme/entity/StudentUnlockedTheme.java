@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "student_unlocked_themes")
+@Table(name = "student_unlocked_themes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_student_unlocked_theme", columnNames = {"student_id", "theme_id"})
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class StudentUnlockedTheme {
@@ -0,0 +1,11 @@
+package com.ssafy.icethang.domain.theme.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// 학생이 캐릭터/배경을 바꿔 장착했을 때 발행
+public class ThemeEquippedEvent {
+    private Long studentId;
+}
@@ -0,0 +1,15 @@
+package com.ssafy.icethang.domain.theme.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+// 학생이 테마를 새로 획득했을 때 발행
+public class ThemeUnlockedEvent {
+    private Long studentId;
+    private List<Long> themeIds;
+    private Integer rewardLevel; // 레벨업 보상이면 도달 레벨, 직접 획득이면 null
+}
@@ -0,0 +1,14 @@
+package com.ssafy.icethang.domain.theme.repository;
+
+import com.ssafy.icethang.domain.theme.entity.LevelReward;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface LevelRewardRepository extends JpaRepository<LevelReward, Long> {
+
+    // 보상표 전체 (레벨, 테마 id)
+    @Query("SELECT lr.level, lr.theme.id FROM LevelReward lr")
+    List<Object[]> findAllLevelAndThemeIds();
+}
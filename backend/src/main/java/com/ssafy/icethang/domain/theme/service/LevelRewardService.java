@@ -0,0 +1,149 @@
+package com.ssafy.icethang.domain.theme.service;
+
+import com.ssafy.icethang.domain.student.event.LevelChangedEvent;
+import com.ssafy.icethang.domain.theme.dto.response.LevelRewardNotification;
+import com.ssafy.icethang.domain.theme.dto.response.ThemeCatalogItem;
+import com.ssafy.icethang.domain.theme.event.ThemeUnlockedEvent;
+import com.ssafy.icethang.domain.theme.repository.LevelRewardRepository;
+import com.ssafy.icethang.global.security.SocketPrincipal;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+// 레벨업 보상 지급
+// 정산/경험치 부여 트랜잭션 안에서 레벨이 오른 학생 전체의 보상을 한 번의 배치 INSERT 로 넣고, 커밋 후 학생에게 알림
+public class LevelRewardService {
+
+    // 이미 가진 테마면 무시 (uk_student_unlocked_theme), 무시된 행은 영향 행 수 0
+    // ON DUPLICATE KEY UPDATE 는 드라이버 기본 설정(found rows)에서 중복도 1로 세므로 사용하지 않음
+    private static final String INSERT_UNLOCK_SQL =
+            "INSERT IGNORE INTO student_unlocked_themes (student_id, theme_id, acquired_at) VALUES (?, ?, ?)";
+    private static final String REWARD_DESTINATION = "/queue/rewards";
+
+    private final LevelRewardRepository levelRewardRepository;
+    private final ThemeCatalog themeCatalog;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 레벨 -> 지급 테마 id (통째로 교체만 함)
+    private volatile NavigableMap<Integer, List<Long>> themeIdsByLevel = Collections.emptyNavigableMap();
+
+    @PostConstruct
+    void init() {
+        refresh();
+    }
+
+    // 보상표가 작아서 주기적으로 전체 다시 읽음
+    @Scheduled(fixedDelay = 5 * 60 * 1000, initialDelay = 5 * 60 * 1000)
+    public void refresh() {
+        try {
+            NavigableMap<Integer, List<Long>> next = new TreeMap<>();
+            for (Object[] row : levelRewardRepository.findAllLevelAndThemeIds()) {
+                next.computeIfAbsent((Integer) row[0], l -> new ArrayList<>()).add((Long) row[1]);
+            }
+            themeIdsByLevel = Collections.unmodifiableNavigableMap(next);
+        } catch (Exception e) {
+            // 이전 보상표 유지
+            log.warn("레벨 보상표 로드 실패", e);
+        }
+    }
+
+    /**
+     * 레벨이 오른 학생들의 보상 지급 (경험치를 부여한 트랜잭션 안에서 실행)
+     * 여러 레벨을 한 번에 건너뛰면 사이 레벨 보상도 모두 지급
+     */
+    @EventListener
+    public void onLevelChanged(LevelChangedEvent event) {
+        NavigableMap<Integer, List<Long>> rewards = themeIdsByLevel;
+        if (rewards.isEmpty()) {
+            return;
+        }
+        Map<Long, ThemeCatalogItem> catalog = themeCatalog.snapshot().byId();
+
+        List<Grant> grants = new ArrayList<>();
+        for (LevelChangedEvent.LevelUp levelUp : event.getLevelUps()) {
+            rewards.subMap(levelUp.getPreviousLevel(), false, levelUp.getCurrentLevel(), true)
+                    .forEach((level, themeIds) -> themeIds.stream()
+                            .filter(catalog::containsKey)
+                            .forEach(themeId -> grants.add(new Grant(levelUp.getStudentId(), themeId, level))));
+        }
+        if (grants.isEmpty()) {
+            return;
+        }
+
+        // 행 잠금 순서를 트랜잭션끼리 맞추기 위해 정렬
+        grants.sort(Comparator.comparing(Grant::studentId).thenComparing(Grant::themeId));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_UNLOCK_SQL, grants, grants.size(), (ps, grant) -> {
+            ps.setLong(1, grant.studentId());
+            ps.setLong(2, grant.themeId());
+            ps.setTimestamp(3, now);
+        });
+
+        // 새로 들어간 것만 (이미 가지고 있던 테마는 0)
+        // 배치 재작성 드라이버는 건별 결과 대신 SUCCESS_NO_INFO 를 주므로 그때는 새로 들어간 것으로 봄
+        Map<Long, Map<Integer, List<Long>>> unlocked = new LinkedHashMap<>();
+        int[] flat = counts.length == 0 ? new int[0] : counts[0];
+        for (int i = 0; i < grants.size(); i++) {
+            int count = i < flat.length ? flat[i] : Statement.SUCCESS_NO_INFO;
+            if (count == 0) {
+                continue;
+            }
+            Grant grant = grants.get(i);
+            unlocked.computeIfAbsent(grant.studentId(), id -> new TreeMap<>())
+                    .computeIfAbsent(grant.level(), l -> new ArrayList<>())
+                    .add(grant.themeId());
+        }
+
+        unlocked.forEach((studentId, themeIdsByReachedLevel) -> themeIdsByReachedLevel.forEach((level, themeIds) ->
+                eventPublisher.publishEvent(new ThemeUnlockedEvent(studentId, themeIds, level))));
+        log.info("레벨업 보상 지급: 레벨업 {}명, 지급 {}건", event.getLevelUps().size(), grants.size());
+    }
+
+    // 커밋 후 해당 학생 소켓으로 알림 (폴링 대신)
+    @TransactionalEventListener
+    public void onThemeUnlocked(ThemeUnlockedEvent event) {
+        if (event.getRewardLevel() == null) {
+            return;
+        }
+        Map<Long, ThemeCatalogItem> catalog = themeCatalog.snapshot().byId();
+        List<ThemeCatalogItem> themes = event.getThemeIds().stream()
+                .map(catalog::get)
+                .filter(Objects::nonNull)
+                .toList();
+        try {
+            messagingTemplate.convertAndSendToUser(SocketPrincipal.studentName(event.getStudentId()), REWARD_DESTINATION,
+                    new LevelRewardNotification(event.getRewardLevel(), themes));
+        } catch (Exception e) {
+            // 알림 실패해도 보상은 이미 지급됨 (다음 목록 조회 때 보임)
+            log.warn("레벨업 보상 알림 실패: student={}", event.getStudentId(), e);
+        }
+    }
+
+    private record Grant(Long studentId, Long themeId, int level) {
+    }
+}
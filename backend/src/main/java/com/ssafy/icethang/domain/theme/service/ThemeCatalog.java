@@ -0,0 +1,103 @@
+package com.ssafy.icethang.domain.theme.service;
+
+import com.ssafy.icethang.domain.theme.dto.response.ThemeCatalogItem;
+import com.ssafy.icethang.domain.theme.entity.Theme;
+import com.ssafy.icethang.domain.theme.repository.ThemeRepository;
+import com.ssafy.icethang.global.exception.BadRequestException;
+import com.ssafy.icethang.global.exception.ResourceNotFoundException;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 테마 전체 목록 (themes 테이블은 배포 때나 바뀌므로 메모리에 불변 스냅샷으로 보관)
+// 스냅샷마다 내용 해시를 version 으로 붙여서 ETag / 클라이언트 에셋 캐시 키로 사용
+public class ThemeCatalog {
+
+    private final ThemeRepository themeRepository;
+
+    private volatile Snapshot snapshot = new Snapshot("empty", Map.of(), List.of(), List.of());
+
+    @PostConstruct
+    void init() {
+        reload();
+    }
+
+    // 테마 테이블은 수십 건이라 통째로 읽고, 내용이 바뀐 경우에만 교체
+    @Scheduled(fixedDelay = 5 * 60 * 1000, initialDelay = 5 * 60 * 1000)
+    public void reload() {
+        List<ThemeCatalogItem> items = themeRepository.findAll().stream()
+                .map(ThemeCatalogItem::from)
+                .sorted(Comparator.comparing(ThemeCatalogItem::getThemeId))
+                .toList();
+
+        String version = hash(items);
+        if (version.equals(snapshot.version())) {
+            return;
+        }
+
+        Map<Long, ThemeCatalogItem> byId = items.stream()
+                .collect(Collectors.toUnmodifiableMap(ThemeCatalogItem::getThemeId, Function.identity()));
+        List<ThemeCatalogItem> characters = items.stream()
+                .filter(item -> item.getCategory() == Theme.ThemeCategory.CHARACTER)
+                .toList();
+        List<ThemeCatalogItem> backgrounds = items.stream()
+                .filter(item -> item.getCategory() == Theme.ThemeCategory.BACKGROUND)
+                .toList();
+
+        snapshot = new Snapshot(version, byId, characters, backgrounds);
+        log.info("테마 카탈로그 갱신: version={}, 캐릭터 {}개, 배경 {}개", version, characters.size(), backgrounds.size());
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    // 존재 + 카테고리 확인
+    public ThemeCatalogItem require(Long themeId, Theme.ThemeCategory category) {
+        ThemeCatalogItem item = snapshot.byId().get(themeId);
+        if (item == null) {
+            throw new ResourceNotFoundException("테마를 찾을 수 없습니다. ID: " + themeId);
+        }
+        if (category != null && item.getCategory() != category) {
+            throw new BadRequestException(category + " 카테고리가 아닙니다. 요청된 테마 ID: " + themeId);
+        }
+        return item;
+    }
+
+    private String hash(List<ThemeCatalogItem> items) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (ThemeCatalogItem item : items) {
+                String line = item.getThemeId() + "|" + item.getName() + "|" + Objects.toString(item.getAssetUrl(), "")
+                        + "|" + Objects.toString(item.getAssetType(), "") + "|" + item.getCategory() + "\n";
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 한 번 만들어지면 바뀌지 않음 (교체만)
+    public record Snapshot(String version,
+                           Map<Long, ThemeCatalogItem> byId,
+                           List<ThemeCatalogItem> characters,
+                           List<ThemeCatalogItem> backgrounds) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.ssafy.icethang.domain.theme.service;
+
+import com.ssafy.icethang.domain.student.event.StudentRemovedEvent;
+import com.ssafy.icethang.domain.theme.event.ThemeUnlockedEvent;
+import com.ssafy.icethang.domain.theme.repository.StudentUnlockedThemeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 학생별 보유 테마 비트맵 (redis: theme:owned:{studentId}, 비트 위치 = 테마 id)
+// 0번 비트는 "DB에서 전체를 읽어 채웠음" 표시, 이 비트가 없으면 DB에서 다시 채움
+public class ThemeOwnershipIndex {
+
+    private static final String KEY_PREFIX = "theme:owned:";
+    private static final Duration TTL = Duration.ofDays(1);
+    private static final int LOADED_BIT = 0;
+
+    // 전체 채우기: 기존 비트는 지우지 않고 합침 (채우는 도중 들어온 획득 비트가 사라지지 않도록)
+    private static final DefaultRedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #ARGV do
+              redis.call('SETBIT', KEYS[1], ARGV[i], 1)
+            end
+            redis.call('SETBIT', KEYS[1], 0, 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 획득 반영: 키가 없어도 비트만 세움 (표시 비트가 없으니 다음 조회 때 DB에서 채워짐)
+    private static final DefaultRedisScript<Long> MARK_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #ARGV do
+              redis.call('SETBIT', KEYS[1], ARGV[i], 1)
+            end
+            if redis.call('TTL', KEYS[1]) < 0 then
+              redis.call('EXPIRE', KEYS[1], ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    private final StudentUnlockedThemeRepository unlockedThemeRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 보유한 테마 id 비트셋 (bitSet.get(themeId) 로 확인)
+     * redis 장애 시에는 DB 결과를 그대로 사용
+     */
+    public BitSet owned(Long studentId) {
+        BitSet cached = read(studentId);
+        if (cached != null && cached.get(LOADED_BIT)) {
+            cached.clear(LOADED_BIT);
+            return cached;
+        }
+
+        List<Long> themeIds = unlockedThemeRepository.findThemeIdsByStudentId(studentId);
+        BitSet owned = new BitSet();
+        themeIds.forEach(themeId -> owned.set(themeId.intValue()));
+        write(studentId, themeIds);
+        return owned;
+    }
+
+    public boolean owns(Long studentId, Long themeId) {
+        return owned(studentId).get(themeId.intValue());
+    }
+
+    // 획득이 커밋된 뒤 반영
+    @TransactionalEventListener
+    public void onThemeUnlocked(ThemeUnlockedEvent event) {
+        try {
+            stringRedisTemplate.execute(MARK_SCRIPT, List.of(KEY_PREFIX + event.getStudentId()),
+                    scriptArgs(event.getThemeIds()));
+        } catch (Exception e) {
+            // 반영 못 하면 지워서 다음 조회 때 DB에서 채우도록
+            log.warn("보유 테마 비트맵 갱신 실패: student={}", event.getStudentId(), e);
+            delete(List.of(event.getStudentId()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onStudentRemoved(StudentRemovedEvent event) {
+        delete(event.getStudentIds());
+    }
+
+    private BitSet read(Long studentId) {
+        try {
+            byte[] bytes = stringRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+                    connection.stringCommands().get(key(studentId)));
+            return bytes == null ? null : fromRedisBitmap(bytes);
+        } catch (Exception e) {
+            log.warn("보유 테마 비트맵 조회 실패: student={}", studentId, e);
+            return null;
+        }
+    }
+
+    private void write(Long studentId, List<Long> themeIds) {
+        try {
+            stringRedisTemplate.execute(LOAD_SCRIPT, List.of(KEY_PREFIX + studentId), scriptArgs(themeIds));
+        } catch (Exception e) {
+            log.warn("보유 테마 비트맵 저장 실패: student={}", studentId, e);
+        }
+    }
+
+    private void delete(List<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(studentIds.stream().map(id -> KEY_PREFIX + id).toList());
+        } catch (Exception e) {
+            log.warn("보유 테마 비트맵 삭제 실패: {}명", studentIds.size(), e);
+        }
+    }
+
+    // ARGV[1] = TTL(초), 나머지 = 세울 비트 위치
+    private static Object[] scriptArgs(List<Long> themeIds) {
+        List<String> args = new ArrayList<>(themeIds.size() + 1);
+        args.add(String.valueOf(TTL.toSeconds()));
+        themeIds.forEach(themeId -> args.add(String.valueOf(themeId)));
+        return args.toArray();
+    }
+
+    private static byte[] key(Long studentId) {
+        return (KEY_PREFIX + studentId).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // redis 비트맵은 바이트마다 상위 비트부터 0, 1, 2 ... 순서
+    private static BitSet fromRedisBitmap(byte[] bytes) {
+        BitSet bits = new BitSet(bytes.length * 8);
+        for (int i = 0; i < bytes.length; i++) {
+            int b = bytes[i] & 0xff;
+            for (int j = 0; j < 8; j++) {
+                if ((b & (0x80 >>> j)) != 0) {
+                    bits.set(i * 8 + j);
+                }
+            }
+        }
+        return bits;
+    }
+}
@@ -2,17 +2,23 @@ package com.ssafy.icethang.domain.theme.service;
 
 import com.ssafy.icethang.domain.student.entity.Student;
 import com.ssafy.icethang.domain.student.repository.StudentRepository;
+import com.ssafy.icethang.domain.theme.dto.response.ThemeCatalogItem;
+import com.ssafy.icethang.domain.theme.dto.response.ThemeManifestResponse;
 import com.ssafy.icethang.domain.theme.dto.response.ThemeResponse;
 import com.ssafy.icethang.domain.theme.entity.StudentUnlockedTheme;
 import com.ssafy.icethang.domain.theme.entity.Theme;
+import com.ssafy.icethang.domain.theme.event.ThemeEquippedEvent;
+import com.ssafy.icethang.domain.theme.event.ThemeUnlockedEvent;
 import com.ssafy.icethang.domain.theme.repository.StudentUnlockedThemeRepository;
 import com.ssafy.icethang.domain.theme.repository.ThemeRepository;
 import com.ssafy.icethang.global.exception.BadRequestException;
 import com.ssafy.icethang.global.exception.ResourceNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -23,38 +29,28 @@ public class ThemeService {
     private final ThemeRepository themeRepository;
     private final StudentRepository studentRepository;
     private final StudentUnlockedThemeRepository unlockedThemeRepository;
+    private final ThemeCatalog themeCatalog;
+    private final ThemeOwnershipIndex themeOwnershipIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 보유한 캐릭터 조회
     public List<ThemeResponse> getMyCharacters(Long studentId) {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("학생 없음"));
 
-        // 테이블에서 해당 학생의 보유 목록 조회
-        return unlockedThemeRepository.findByStudentId(studentId).stream()
-                .filter(unlocked -> unlocked.getTheme().getCategory() == Theme.ThemeCategory.CHARACTER)
-                .map(unlocked -> {
-                    Theme theme = unlocked.getTheme();
-                    return new ThemeResponse(
-                            theme.getId(),
-                            theme.getName(),
-                            theme.getAssetUrl(),
-                            theme.getCategory().name(),
-                            true, // 보유함
-                            isEquipped(student, theme)
-                    );
-                })
+        // 보유 비트맵 + 카탈로그 (엔티티 조회 없음)
+        BitSet owned = themeOwnershipIndex.owned(studentId);
+        return themeCatalog.snapshot().characters().stream()
+                .filter(item -> owned.get(item.getThemeId().intValue()))
+                .map(item -> toResponse(item, true, isEquipped(student, item)))
                 .collect(Collectors.toList());
     }
 
-    // 배경 전체 조회
+    // 배경 전체 조회 (카탈로그)
     public List<ThemeResponse> getAllBackgrounds() {
-        // Theme 테이블에서 카테고리가 BACKGROUND인 것만 싹 긁어옴
-        return themeRepository.findAllByCategory(Theme.ThemeCategory.BACKGROUND).stream()
-                .map(theme -> new ThemeResponse(
-                        theme.getId(),
-                        theme.getName(),
-                        theme.getAssetUrl(),
-                        theme.getCategory().name(),
+        return themeCatalog.snapshot().backgrounds().stream()
+                .map(item -> toResponse(
+                        item,
                         true, // 배경은 전부 보유(사용가능) 처리
                         false // studentId 비교 안하고 모든 배경 불러오기이므로 일단 모두 false 처리
                 ))
@@ -67,20 +63,16 @@ public class ThemeService {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("장착할 학생을 찾을 수 없습니다. ID: " + studentId));
 
-        Theme theme = themeRepository.findById(themeId)
-                .orElseThrow(() -> new ResourceNotFoundException("장착할 테마를 찾을 수 없습니다. ID: " + themeId));
+        // 존재 + 카테고리가 캐릭터가 맞는지 (카탈로그)
+        themeCatalog.require(themeId, Theme.ThemeCategory.CHARACTER);
 
-        // 카테고리가 캐릭터가 맞는지
-        if (theme.getCategory() != Theme.ThemeCategory.CHARACTER) {
-            throw new BadRequestException("캐릭터 카테고리가 아닙니다. 요청된 테마 ID: " + themeId);
-        }
-
-        // 보유하고 있는지 (StudentUnlockedTheme 테이블 조회)
-        if (!unlockedThemeRepository.existsByStudentIdAndThemeId(studentId, themeId)) {
+        // 보유하고 있는지 (보유 비트맵)
+        if (!themeOwnershipIndex.owns(studentId, themeId)) {
             throw new BadRequestException("보유하지 않은 캐릭터입니다.");
         }
 
-        student.equipCharacter(theme);
+        student.equipCharacter(themeRepository.getReferenceById(themeId));
+        eventPublisher.publishEvent(new ThemeEquippedEvent(studentId));
     }
 
     // 배경 장착(카테고리만 체크)
@@ -89,15 +81,11 @@ public class ThemeService {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new ResourceNotFoundException("해금할 학생을 찾을 수 없습니다. ID: " + studentId));
 
-        Theme theme = themeRepository.findById(themeId)
-                .orElseThrow(() -> new ResourceNotFoundException("해금할 테마를 찾을 수 없습니다. ID: " + themeId));
-
         // 카테고리가 배경이 맞는지
-        if (theme.getCategory() != Theme.ThemeCategory.BACKGROUND) {
-            throw new BadRequestException("배경 아이템이 아닙니다.");
-        }
+        themeCatalog.require(themeId, Theme.ThemeCategory.BACKGROUND);
 
-        student.equipBackground(theme);
+        student.equipBackground(themeRepository.getReferenceById(themeId));
+        eventPublisher.publishEvent(new ThemeEquippedEvent(studentId));
     }
 
     // 전체 캐릭터 목록 조회
@@ -105,23 +93,15 @@ public class ThemeService {
         Student student = studentRepository.findById(studentId)
                 .orElseThrow(() -> new IllegalArgumentException("학생 없음"));
 
-        // 모든 캐릭터 리스트 가져오기
-        List<Theme> allCharacters = themeRepository.findAllByCategory(Theme.ThemeCategory.CHARACTER);
+        // 내가 보유한 캐릭터인지 확인하기 위해 보유 비트맵 조회
+        BitSet owned = themeOwnershipIndex.owned(studentId);
 
-        // 내가 보유한 캐릭터인지 확인하기 위해 보유 목록 조회
-        List<Long> unlockedThemeIds = unlockedThemeRepository.findByStudentId(studentId).stream()
-                .map(unlocked -> unlocked.getTheme().getId())
-                .collect(Collectors.toList());
-
-        // 매핑 (전체 돌면서 isOwned 체크)
-        return allCharacters.stream()
-                .map(theme -> new ThemeResponse(
-                        theme.getId(),
-                        theme.getName(),
-                        theme.getAssetUrl(),
-                        theme.getCategory().name(),
-                        unlockedThemeIds.contains(theme.getId()), // 보유 여부 (List에 있으면 true)
-                        isEquipped(student, theme)                // 장착 여부
+        // 매핑 (카탈로그 전체 돌면서 isOwned 체크)
+        return themeCatalog.snapshot().characters().stream()
+                .map(item -> toResponse(
+                        item,
+                        owned.get(item.getThemeId().intValue()),       // 보유 여부
+                        isEquipped(student, item)                      // 장착 여부
                 ))
                 .collect(Collectors.toList());
     }
@@ -134,31 +114,48 @@ public class ThemeService {
             return;
         }
 
-        Student student = studentRepository.getReferenceById(studentId);
-        Theme theme = themeRepository.findById(themeId)
-                .orElseThrow(() -> new ResourceNotFoundException("아이템 없음"));
-
         // 캐릭터인지 검증 (배경은 Unlock 개념 없으므로 막음)
-        if (theme.getCategory() != Theme.ThemeCategory.CHARACTER) {
-            throw new BadRequestException("캐릭터만 해제금지할 수 있습니다.");
-        }
+        themeCatalog.require(themeId, Theme.ThemeCategory.CHARACTER);
 
         StudentUnlockedTheme newUnlock = StudentUnlockedTheme.builder()
-                .student(student)
-                .theme(theme)
+                .student(studentRepository.getReferenceById(studentId))
+                .theme(themeRepository.getReferenceById(themeId))
                 .build();
 
         unlockedThemeRepository.save(newUnlock);
+        // 커밋 후 보유 비트맵에 반영
+        eventPublisher.publishEvent(new ThemeUnlockedEvent(studentId, List.of(themeId), null));
+    }
+
+    // 에셋 목록 (version 으로 클라이언트 캐시)
+    public ThemeManifestResponse getManifest() {
+        ThemeCatalog.Snapshot snapshot = themeCatalog.snapshot();
+        return new ThemeManifestResponse(snapshot.version(), snapshot.characters(), snapshot.backgrounds());
+    }
+
+    public String getCatalogVersion() {
+        return themeCatalog.snapshot().version();
+    }
+
+    private ThemeResponse toResponse(ThemeCatalogItem item, boolean unlocked, boolean equipped) {
+        return new ThemeResponse(
+                item.getThemeId(),
+                item.getName(),
+                item.getAssetUrl(),
+                item.getCategory().name(),
+                unlocked,
+                equipped
+        );
     }
 
     // 장착 여부 확인
-    private boolean isEquipped(Student student, Theme theme) {
-        if (theme.getCategory() == Theme.ThemeCategory.CHARACTER) {
+    private boolean isEquipped(Student student, ThemeCatalogItem item) {
+        if (item.getCategory() == Theme.ThemeCategory.CHARACTER) {
             return student.getEquippedCharacter() != null &&
-                    student.getEquippedCharacter().getId().equals(theme.getId());
+                    student.getEquippedCharacter().getId().equals(item.getThemeId());
         } else {
             return student.getEquippedBackground() != null &&
-                    student.getEquippedBackground().getId().equals(theme.getId());
+                    student.getEquippedBackground().getId().equals(item.getThemeId());
         }
     }
 }
@@ -0,0 +1,29 @@
+package com.ssafy.icethang.domain.timetable.controller;
+
+import com.ssafy.icethang.domain.timetable.service.TimetablePrefetchService;
+import com.ssafy.icethang.global.security.UserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+public class TimetablePrefetchController {
+
+    private final TimetablePrefetchService timetablePrefetchService;
+
+    // 학교 전체 반 시간표 미리 받기 (백그라운드 실행, 바로 202)
+    @PostMapping("/schools/{schoolId}/timetables/prefetch")
+    public ResponseEntity<Void> prefetch(
+            @PathVariable Integer schoolId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyyMMdd") LocalDate targetDate,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        timetablePrefetchService.prefetchSchool(schoolId, principal.getId(), targetDate);
+        return ResponseEntity.accepted().build();
+    }
+}
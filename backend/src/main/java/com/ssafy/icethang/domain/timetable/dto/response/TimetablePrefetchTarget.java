@@ -0,0 +1,16 @@
+package com.ssafy.icethang.domain.timetable.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+// 시간표를 나이스에서 받아올 반 (엔티티/지연 로딩 없이 필요한 컬럼만)
+public class TimetablePrefetchTarget {
+    private Long groupId;
+    private Integer grade;
+    private Integer classNum;
+    private Integer schoolId;
+    private String scCode;
+    private String schoolCode;
+}
@@ -2,11 +2,18 @@ package com.ssafy.icethang.domain.timetable.repository;
 
 import com.ssafy.icethang.domain.timetable.entity.Timetable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TimetableRepository extends JpaRepository<Timetable, Long> {
     void deleteByClassGroup_IdAndSem(Long groupId, Integer sem);
     List<Timetable> findByClassGroup_IdAndSem(Long groupId, Integer sem);
     boolean existsByClassGroup_IdAndDayOfWeekAndClassNo(Long groupId, String dayOfWeek, Integer classNo);
+
+    // 해당 학기 시간표가 이미 있는 반
+    @Query("SELECT DISTINCT t.classGroup.id FROM Timetable t WHERE t.classGroup.id IN :groupIds AND t.sem = :sem")
+    List<Long> findGroupIdsWithTimetable(@Param("groupIds") Collection<Long> groupIds, @Param("sem") Integer sem);
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+package com.ssafy.icethang.domain.timetable.service;
+
+import com.ssafy.icethang.domain.auth.repository.AuthRepository;
+import com.ssafy.icethang.domain.classgroup.repository.ClassGroupRepository;
+import com.ssafy.icethang.domain.timetable.dto.response.TimetablePrefetchTarget;
+import com.ssafy.icethang.global.exception.DuplicateResourceException;
+import com.ssafy.icethang.global.exception.ForbiddenException;
+import com.ssafy.icethang.global.exception.ServiceUnavailableException;
+import com.ssafy.icethang.global.utill.NeisApiService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+// 학기 시작 전에 모든 반 시간표를 나이스에서 미리 받아 저장 (첫 조회한 선생님이 기다리지 않도록)
+// 학교 단위로 묶어서 전용 스레드풀(동시 4개 학교)에서 처리, 같은 학교 요청 사이에는 간격을 둠
+public class TimetablePrefetchService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    // 2주 뒤 날짜 기준으로 받아서 학기 시작 전에 미리 채움
+    private static final int LEAD_DAYS = 14;
+    // 학교별 요청 간격 (학교 하나가 나이스 호출을 몰아서 쓰지 않도록)
+    private static final Duration REQUEST_INTERVAL = Duration.ofMillis(300);
+
+    private final ClassGroupRepository classGroupRepository;
+    private final AuthRepository authRepository;
+    private final NeisApiService neisApiService;
+    private final TimetableStore timetableStore;
+    private final ExecutorService timetablePrefetchExecutor;
+
+    // 진행 중인 학교 (같은 학교를 동시에 두 번 돌리지 않음)
+    private final Set<Integer> running = ConcurrentHashMap.newKeySet();
+
+    // 매일 새벽, 이미 채워진 반은 나이스 호출 없이 건너뜀
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void prefetchAll() {
+        LocalDate date = LocalDate.now(ZONE).plusDays(LEAD_DAYS);
+        Map<Integer, List<TimetablePrefetchTarget>> bySchool = classGroupRepository.findTimetablePrefetchTargets().stream()
+                .collect(Collectors.groupingBy(TimetablePrefetchTarget::getSchoolId, LinkedHashMap::new, Collectors.toList()));
+
+        int submitted = 0;
+        for (Map.Entry<Integer, List<TimetablePrefetchTarget>> school : bySchool.entrySet()) {
+            if (submit(school.getKey(), school.getValue(), date)) {
+                submitted++;
+            }
+        }
+        log.info("시간표 미리 받기 시작: 기준일 {}, 학교 {}곳", date, submitted);
+    }
+
+    /**
+     * 학교 하나 수동 실행 (선생님 요청), 기준일이 없으면 오늘
+     * 이미 진행 중이면 409
+     */
+    public void prefetchSchool(Integer schoolId, Long teacherId, LocalDate targetDate) {
+        Integer teacherSchoolId = authRepository.findSchoolIdById(teacherId).orElse(null);
+        if (!schoolId.equals(teacherSchoolId)) {
+            throw new ForbiddenException("소속 학교의 시간표만 받아올 수 있습니다.");
+        }
+        LocalDate date = targetDate != null ? targetDate : LocalDate.now(ZONE);
+        List<TimetablePrefetchTarget> targets = classGroupRepository.findTimetablePrefetchTargetsBySchoolId(schoolId);
+        if (!submit(schoolId, targets, date)) {
+            throw new DuplicateResourceException("이미 시간표를 받아오는 중입니다.");
+        }
+    }
+
+    private boolean submit(Integer schoolId, List<TimetablePrefetchTarget> targets, LocalDate date) {
+        if (!running.add(schoolId)) {
+            return false;
+        }
+        try {
+            timetablePrefetchExecutor.execute(() -> {
+                try {
+                    prefetch(schoolId, targets, TimetableTerm.of(date));
+                } catch (Exception e) {
+                    log.warn("시간표 미리 받기 실패: school={}", schoolId, e);
+                } finally {
+                    running.remove(schoolId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            running.remove(schoolId);
+            log.warn("시간표 미리 받기 대기열 초과: school={}", schoolId);
+            return false;
+        }
+    }
+
+    private void prefetch(Integer schoolId, List<TimetablePrefetchTarget> targets, TimetableTerm term) throws InterruptedException {
+        Set<Long> filled = timetableStore.findFilledGroupIds(
+                targets.stream().map(TimetablePrefetchTarget::getGroupId).toList(), term.sem());
+
+        Map<Long, List<TimetableSlot>> slotsByGroupId = new LinkedHashMap<>();
+        int requested = 0;
+        for (TimetablePrefetchTarget target : targets) {
+            if (filled.contains(target.getGroupId())) {
+                continue;
+            }
+            if (requested++ > 0) {
+                Thread.sleep(REQUEST_INTERVAL.toMillis());
+            }
+            try {
+                List<TimetableSlot> slots = TimetableStore.toSlots(neisApiService.fetchTimetable(
+                        target.getScCode(), target.getSchoolCode(),
+                        target.getGrade(), target.getClassNum(),
+                        term.startDate(), term.endDate(), term.ay(), String.valueOf(term.sem())));
+                // 아직 나이스에 안 올라온 반은 다음 실행 때 다시
+                if (!slots.isEmpty()) {
+                    slotsByGroupId.put(target.getGroupId(), slots);
+                }
+            } catch (ServiceUnavailableException e) {
+                // 나이스 장애면 이 학교는 여기까지 (받은 것만 저장)
+                log.warn("나이스 응답 없음, 시간표 미리 받기 중단: school={}", schoolId);
+                break;
+            }
+        }
+
+        timetableStore.storeIfAbsent(slotsByGroupId, term.sem());
+        log.info("시간표 미리 받기 완료: school={}, 대상 {}반, 저장 {}반", schoolId, targets.size() - filled.size(), slotsByGroupId.size());
+    }
+}
@@ -3,23 +3,24 @@ package com.ssafy.icethang.domain.timetable.service;
 import com.ssafy.icethang.domain.classgroup.entity.ClassGroup;
 import com.ssafy.icethang.domain.classgroup.repository.ClassGroupRepository;
 import com.ssafy.icethang.domain.timetable.dto.request.TimetableRequest;
+import com.ssafy.icethang.domain.timetable.dto.response.TimetablePrefetchTarget;
 import com.ssafy.icethang.domain.timetable.dto.response.TimetableResponse;
 import com.ssafy.icethang.domain.timetable.entity.Timetable;
 import com.ssafy.icethang.domain.timetable.repository.TimetableRepository;
 import com.ssafy.icethang.global.exception.DuplicateResourceException;
 import com.ssafy.icethang.global.exception.ResourceNotFoundException;
+import com.ssafy.icethang.global.redis.SingleFlight;
 import com.ssafy.icethang.global.utill.NeisApiService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.TemporalAdjusters;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -29,70 +30,52 @@ public class TimetableService {
     private final TimetableRepository timetableRepository;
     private final ClassGroupRepository classGroupRepository;
     private final NeisApiService neisApiService;
+    private final TimetableStore timetableStore;
+    private final SingleFlight singleFlight;
 
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
     private static final List<String> DAY_ORDER = List.of("MON", "TUE", "WED", "THU", "FRI");
 
-    @Transactional
+    // 나이스 호출 동안 트랜잭션(DB 커넥션)을 잡고 있지 않도록 저장만 따로 트랜잭션
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<TimetableResponse> getTimetable(Long groupId, String targetDate) {
-        LocalDate date = LocalDate.parse(targetDate, formatter);
-
-        // 1. 학년도 및 학기 계산 (DB가 INT 타입이므로 Integer로 변환)
-        int year = date.getYear();
-        int month = date.getMonthValue();
-        String ay = (month <= 2) ? String.valueOf(year - 1) : String.valueOf(year);
-        Integer sem = (month >= 3 && month <= 7) ? 1 : 2;
+        // 1. 학년도 및 학기 계산
+        TimetableTerm term = TimetableTerm.of(LocalDate.parse(targetDate, formatter));
 
-        // 2. DB 선조회: 해당 반의 해당 학기 데이터가 있는지 확인
-        List<Timetable> existingTimetables = timetableRepository.findByClassGroup_IdAndSem(groupId, sem);
+        // 2. DB 선조회: 해당 반의 해당 학기 데이터가 있는지 확인 (보통 미리 받아둔 데이터)
+        List<Timetable> existingTimetables = timetableRepository.findByClassGroup_IdAndSem(groupId, term.sem());
 
         if (!existingTimetables.isEmpty()) {
             return sortByDayAndClass(existingTimetables);
         }
 
         // --- 데이터가 없을 경우에만 API 호출 로직 실행 ---
+        // 같은 반/학기를 동시에 조회하면 나이스 호출은 한 번만 (나머지는 결과를 같이 받음)
+        return singleFlight.execute("timetable:" + groupId + ":" + term.sem(), () -> load(groupId, term));
+    }
 
-        // 3. 반 정보 조회
-        ClassGroup group = classGroupRepository.findById(groupId)
-                .orElseThrow(() -> new ResourceNotFoundException("반 정보를 찾을 수 없습니다."));
-
-        // 4. 기존 데이터 청소
-        timetableRepository.deleteByClassGroup_IdAndSem(groupId, sem);
-        timetableRepository.flush();
-
-        // 5. 날짜 범위 계산 및 API 호출
-        String startDate = date.with(TemporalAdjusters.firstDayOfMonth()).format(formatter);
-        String endDate = date.with(TemporalAdjusters.lastDayOfMonth()).format(formatter);
-
-        List<Map<String, String>> rows = neisApiService.fetchTimetable(
-                group.getTeacher().getSchool().getScCode(),
-                group.getTeacher().getSchool().getSchoolCode(),
-                group.getGrade(), group.getClassNum(),
-                startDate, endDate, ay, String.valueOf(sem)
-        );
-
-        if (rows == null || rows.isEmpty()) return List.of();
-
-        // 6. 데이터 정제 및 중복 제거
-        List<Timetable> newTimetables = rows.stream()
-                .map(row -> Timetable.builder()
-                        .classGroup(group)
-                        .dayOfWeek(convertToDayOfWeek(row.get("ALL_TI_YMD")))
-                        .classNo(Integer.parseInt(row.get("PERIO")))
-                        .subject(row.get("ITRT_CNTNT"))
-                        .sem(sem)
-                        .build())
-                .filter(t -> t.getSubject() != null && !t.getSubject().trim().isEmpty())
-                .filter(t -> DAY_ORDER.contains(t.getDayOfWeek())) // 주말 자동 필터링
-                .distinct()
-                .collect(Collectors.toList());
-
-        // 7. DB 저장
-        if (!newTimetables.isEmpty()) {
-            timetableRepository.saveAllAndFlush(newTimetables);
+    private List<TimetableResponse> load(Long groupId, TimetableTerm term) {
+        // 3. 기다리는 동안 다른 요청/서버/미리 받기가 채웠으면 그대로 사용
+        List<Timetable> stored = timetableRepository.findByClassGroup_IdAndSem(groupId, term.sem());
+        if (!stored.isEmpty()) {
+            return sortByDayAndClass(stored);
         }
 
-        return sortByDayAndClass(newTimetables);
+        // 4. 반 정보 조회
+        TimetablePrefetchTarget target = classGroupRepository.findTimetablePrefetchTarget(groupId)
+                .orElseThrow(() -> new ResourceNotFoundException("반 정보를 찾을 수 없습니다."));
+
+        // 5. API 호출 + 주간 시간표로 정리
+        List<TimetableSlot> slots = TimetableStore.toSlots(neisApiService.fetchTimetable(
+                target.getScCode(), target.getSchoolCode(),
+                target.getGrade(), target.getClassNum(),
+                term.startDate(), term.endDate(), term.ay(), String.valueOf(term.sem())
+        ));
+        if (slots.isEmpty()) return List.of();
+
+        // 6. DB 저장 (락 대기 시간 초과 등으로 겹쳐 실행돼도 이미 있는 반은 그대로 둠)
+        timetableStore.storeIfAbsent(Map.of(groupId, slots), term.sem());
+        return sortByDayAndClass(timetableRepository.findByClassGroup_IdAndSem(groupId, term.sem()));
     }
 
     // 요일 -> 교시 순 정렬 로직 공통화
@@ -104,11 +87,6 @@ public class TimetableService {
                 .toList();
     }
 
-    private String convertToDayOfWeek(String ymd) {
-        LocalDate date = LocalDate.parse(ymd, formatter);
-        return date.getDayOfWeek().name().substring(0, 3);
-    }
-
     @Transactional
     public void updateTimetable(Long timetableId, TimetableRequest dto) {
         Timetable timetable = timetableRepository.findById(timetableId)
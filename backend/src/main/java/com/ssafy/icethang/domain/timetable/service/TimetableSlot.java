@@ -0,0 +1,5 @@
+package com.ssafy.icethang.domain.timetable.service;
+
+// 요일 + 교시 + 과목 (나이스 날짜별 행을 주간 시간표로 줄인 것, 같은 값이면 중복)
+record TimetableSlot(String dayOfWeek, int classNo, String subject) {
+}
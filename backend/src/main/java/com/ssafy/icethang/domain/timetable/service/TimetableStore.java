@@ -0,0 +1,88 @@
+package com.ssafy.icethang.domain.timetable.service;
+
+import com.ssafy.icethang.domain.classgroup.repository.ClassGroupRepository;
+import com.ssafy.icethang.domain.timetable.repository.TimetableRepository;
+import com.ssafy.icethang.global.neis.NeisTimetableRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+// 나이스에서 받은 시간표 저장 (반 화면 조회, 미리 받기 공통)
+// 트랜잭션은 저장 구간만 TransactionTemplate 으로 (나이스 호출은 트랜잭션 밖)
+class TimetableStore {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO timetables (group_id, day_of_week, class_no, subject, sem) VALUES (?, ?, ?, ?, ?)";
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final List<String> WEEKDAYS = List.of("MON", "TUE", "WED", "THU", "FRI");
+
+    private final TimetableRepository timetableRepository;
+    private final ClassGroupRepository classGroupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 나이스 날짜별 행 -> 요일/교시/과목 (주말, 빈 과목 제외, 중복 제거)
+    static List<TimetableSlot> toSlots(List<NeisTimetableRow> rows) {
+        if (rows == null || rows.isEmpty()) {
+            return List.of();
+        }
+        return rows.stream()
+                .filter(row -> row.subject() != null && !row.subject().trim().isEmpty())
+                .map(row -> new TimetableSlot(toDayOfWeek(row.date()), Integer.parseInt(row.period()), row.subject()))
+                .filter(slot -> WEEKDAYS.contains(slot.dayOfWeek()))
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 해당 학기 시간표가 아직 없는 반만 한 번의 배치 INSERT 로 저장
+     * 반 행을 id 순서로 잠근 뒤 확인하므로 같은 반을 동시에 채워도 중복 저장되지 않음
+     */
+    void storeIfAbsent(Map<Long, List<TimetableSlot>> slotsByGroupId, int sem) {
+        if (slotsByGroupId.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> groupIds = slotsByGroupId.keySet().stream().sorted().toList();
+            classGroupRepository.lockAllByIdIn(groupIds);
+            Set<Long> filled = findFilledGroupIds(groupIds, sem);
+
+            List<Object[]> rows = new ArrayList<>();
+            for (Long groupId : groupIds) {
+                if (filled.contains(groupId)) {
+                    continue;
+                }
+                for (TimetableSlot slot : slotsByGroupId.get(groupId)) {
+                    rows.add(new Object[]{groupId, slot.dayOfWeek(), slot.classNo(), slot.subject(), sem});
+                }
+            }
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+            }
+        });
+    }
+
+    // 해당 학기 시간표가 이미 있는 반 id
+    Set<Long> findFilledGroupIds(Collection<Long> groupIds, int sem) {
+        if (groupIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(timetableRepository.findGroupIdsWithTimetable(groupIds, sem));
+    }
+
+    private static String toDayOfWeek(String ymd) {
+        return LocalDate.parse(ymd, FORMATTER).getDayOfWeek().name().substring(0, 3);
+    }
+}
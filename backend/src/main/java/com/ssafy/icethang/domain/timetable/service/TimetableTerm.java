@@ -0,0 +1,21 @@
+package com.ssafy.icethang.domain.timetable.service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+
+// 날짜 기준 학년도/학기와 나이스에서 받아올 기간 (해당 월 1일 ~ 말일)
+record TimetableTerm(String ay, int sem, String startDate, String endDate) {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    static TimetableTerm of(LocalDate date) {
+        int year = date.getYear();
+        int month = date.getMonthValue();
+        String ay = (month <= 2) ? String.valueOf(year - 1) : String.valueOf(year);
+        int sem = (month >= 3 && month <= 7) ? 1 : 2;
+        return new TimetableTerm(ay, sem,
+                date.with(TemporalAdjusters.firstDayOfMonth()).format(FORMATTER),
+                date.with(TemporalAdjusters.lastDayOfMonth()).format(FORMATTER));
+    }
+}
@@ -16,6 +16,7 @@ public class AppProperties {
 
     private final Auth auth = new Auth();
     private final OAuth2 oauth2 = new OAuth2();
+    private final Proxy proxy = new Proxy();
 
     @Getter
     @Setter
@@ -29,4 +30,12 @@ public class AppProperties {
     public static class OAuth2 {
         private List<String> authorizedRedirectUris = new ArrayList<>();
     }
-}
\ No newline at end of file
+
+    @Getter
+    @Setter
+    // 앞단 프록시(nginx) 주소 대역, 여기서 온 요청만 X-Forwarded-For / X-Real-IP 를 믿음
+    public static class Proxy {
+        private List<String> trustedProxies = new ArrayList<>(List.of(
+                "127.0.0.0/8", "::1/128", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16"));
+    }
+}
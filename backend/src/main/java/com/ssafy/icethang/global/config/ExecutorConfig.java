@@ -0,0 +1,55 @@
+package com.ssafy.icethang.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+// 요청 스레드 밖에서 돌리는 작업용 스레드풀 모음
+public class ExecutorConfig {
+
+    // 통계 병렬 집계용 (스레드 수와 대기열 모두 제한, 넘치면 바로 거절)
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService statisticsExecutor() {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1_000),
+                new CustomizableThreadFactory("statistics-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 비밀번호 해시(BCrypt) 전용, CPU 절반까지만 사용해서 로그인이 몰려도 웹소켓/일반 API 가 굶지 않게
+    // 대기열이 차면 바로 거절 -> 429
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor passwordHashExecutor() {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads * 16),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 시간표 미리 받기용 (학교 단위 작업, 동시에 4개 학교까지만)
+    // 나이스 동시 요청 한도(8)의 절반만 쓰도록 해서 사용자 요청 몫을 남겨둠
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService timetablePrefetchExecutor() {
+        return new ThreadPoolExecutor(4, 4, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(20_000),
+                new CustomizableThreadFactory("timetable-prefetch-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 학교 목록 가져오기 전용 (몇 분 걸리는 작업을 서버 시작 스레드 밖에서, 한 번에 하나만)
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService schoolImportExecutor() {
+        return new ThreadPoolExecutor(1, 1, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1),
+                new CustomizableThreadFactory("school-import-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
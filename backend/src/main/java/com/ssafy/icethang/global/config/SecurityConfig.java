@@ -1,6 +1,7 @@
 package com.ssafy.icethang.global.config;
 
 import com.ssafy.icethang.domain.auth.service.CustomOAuth2UserService;
+import com.ssafy.icethang.global.security.BoundedPasswordEncoder;
 import com.ssafy.icethang.global.security.CustomUserDetailsService;
 import com.ssafy.icethang.global.security.OAuth2FailureHandler;
 import com.ssafy.icethang.global.security.OAuth2SuccessHandler;
@@ -9,6 +10,7 @@ import com.ssafy.icethang.global.security.oauth2.HttpCookieOAuth2AuthorizationRe
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -24,7 +26,9 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableWebSecurity
@@ -45,10 +49,10 @@ public class SecurityConfig {
     }
 
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -75,13 +79,22 @@ public class SecurityConfig {
                         .requestMatchers("/error").permitAll()
                         // 로그인 관련
                         .requestMatchers("/auth/**", "/oauth2/**").permitAll()
+                        // 회원가입 학교 검색
+                        .requestMatchers(HttpMethod.GET, "/schools/search").permitAll()
                         // [경험치 조회 API] 학생과 선생님 모두 접근 가능하도록 설정
                         .requestMatchers("/classes/*/students/*/xp", "/themes/**").hasAnyRole("STUDENT", "TEACHER")
                         // [수정 API] 오직 선생님만 접근 가능하도록 설정
-                        .requestMatchers("/classes/*/students/*/xp/give").hasRole("TEACHER")
+                        .requestMatchers("/classes/*/students/*/xp/give", "/classes/*/xp/give").hasRole("TEACHER")
                         .requestMatchers("/classes/*/session/**").hasRole("TEACHER")
+                        .requestMatchers("/schools/*/timetables/**").hasRole("TEACHER")
+                        // 보고서 내보내기 (담당 반/소속 학교 확인은 선생님 id 로 하므로 학생 토큰은 여기서 막음)
+                        .requestMatchers("/classes/*/reports/**", "/schools/*/reports/**").hasRole("TEACHER")
+                        // 학교 대시보드 (소속 학교 확인을 선생님 id 로 함)
+                        .requestMatchers("/schools/*/dashboard/**").hasRole("TEACHER")
                         // 소켓 연결
                         .requestMatchers("/ws/**").permitAll()
+                        // 학생 본인 동기화
+                        .requestMatchers("/students/me/**").hasRole("STUDENT")
                         .requestMatchers("/students/**", "/classes/**").authenticated()
                         .anyRequest().authenticated() // 나머지는 다 로그인 해야 함
                 )
@@ -133,8 +146,9 @@ public class SecurityConfig {
         return source;
     }
 
+    // BCrypt 는 전용 스레드풀에서만 실행 (요청 스레드/웹소켓 처리와 CPU 분리), 2초 이상 밀리면 429
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ThreadPoolExecutor passwordHashExecutor) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), passwordHashExecutor, Duration.ofSeconds(2));
     }
 }
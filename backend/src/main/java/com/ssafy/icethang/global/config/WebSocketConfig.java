@@ -1,6 +1,9 @@
 package com.ssafy.icethang.global.config;
 
+import com.ssafy.icethang.global.security.StompAuthChannelInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -8,12 +11,15 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 
 @Configuration
 @EnableWebSocketMessageBroker // STOMP 사용 활성화
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // 메시지 구독 요청 (선생님이 듣는 주소)
-        config.enableSimpleBroker("/topic");
+        // 메시지 구독 요청 (선생님이 듣는 주소), /queue 는 학생 개인 알림 (/user/queue/...)
+        config.enableSimpleBroker("/topic", "/queue");
 
         // 메시지 발행 요청 (학생이 보내는 주소)
         config.setApplicationDestinationPrefixes("/app");
@@ -26,4 +32,10 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*") // CORS 허용 (배포 시 프론트 주소로 변경 권장)
                 .withSockJS(); // 포스트맨 테스트시 주의
     }
-}
\ No newline at end of file
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // CONNECT 토큰 검증 + 구독/발행 권한 확인
+        registration.interceptors(stompAuthChannelInterceptor);
+    }
+}
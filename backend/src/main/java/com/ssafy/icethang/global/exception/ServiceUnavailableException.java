@@ -0,0 +1,12 @@
+package com.ssafy.icethang.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 503 SERVICE UNAVAILABLE : 외부 API(나이스 등) 장애로 처리 불가
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends RuntimeException{
+    public ServiceUnavailableException(String message){
+        super(message);
+    }
+}
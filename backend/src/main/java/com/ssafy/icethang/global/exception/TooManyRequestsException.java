@@ -0,0 +1,12 @@
+package com.ssafy.icethang.global.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 429 TOO MANY REQUESTS : 요청 한도 초과, 서버 과부하로 처리 거절
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException{
+    public TooManyRequestsException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,58 @@
+package com.ssafy.icethang.global.neis;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 연속 실패가 threshold 번이면 openDuration 동안 요청을 보내지 않음 (열림)
+// 시간이 지나면 한 요청만 시험 삼아 보내고(반열림), 성공하면 닫고 실패하면 다시 열림
+class CircuitBreaker {
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+    private volatile long openedAt;
+    private volatile boolean open;
+
+    CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    boolean tryAcquire() {
+        if (!open) {
+            return true;
+        }
+        if (System.nanoTime() - openedAt < openNanos) {
+            return false;
+        }
+        // 반열림: 시험 요청 하나만 통과
+        return trialInFlight.compareAndSet(false, true);
+    }
+
+    void onSuccess() {
+        consecutiveFailures.set(0);
+        open = false;
+        trialInFlight.set(false);
+    }
+
+    void onFailure() {
+        if (open || consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = System.nanoTime();
+            open = true;
+            trialInFlight.set(false);
+        }
+    }
+
+    // 서버 상태와 무관한 결과 (잘못된 요청, 결과 코드 오류, 응답 해석 실패)
+    // 상태는 그대로 두고 시험 요청 자리만 돌려줌 (안 그러면 반열림에서 영영 닫히지 않음)
+    void onIgnored() {
+        trialInFlight.set(false);
+    }
+
+    boolean isOpen() {
+        return open;
+    }
+}
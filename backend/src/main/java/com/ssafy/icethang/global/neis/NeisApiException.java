@@ -0,0 +1,21 @@
+package com.ssafy.icethang.global.neis;
+
+// 나이스 호출 실패 (retryable 이면 같은 요청을 다시 보내볼 만한 오류)
+public class NeisApiException extends RuntimeException {
+
+    private final boolean retryable;
+
+    public NeisApiException(String message, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+    }
+
+    public NeisApiException(String message, Throwable cause, boolean retryable) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
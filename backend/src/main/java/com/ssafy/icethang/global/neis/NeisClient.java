@@ -0,0 +1,254 @@
+package com.ssafy.icethang.global.neis;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+// 나이스 오픈 API 클라이언트
+// JDK HttpClient(keep-alive 연결 재사용) 비동기 호출 + 연결/응답 타임아웃 + 동시 요청 수 제한
+// + 일시적 오류 재시도(지수 백오프, full jitter) + 서킷 브레이커
+// 응답은 Map 대신 행 타입(NeisSchoolRow, NeisTimetableRow)으로 변환
+public class NeisClient {
+
+    private static final String DEFAULT_BASE_URL = "https://open.neis.go.kr/hub";
+    // 조회 결과 없음 (정상 응답)
+    private static final String NO_DATA = "INFO-200";
+
+    private final Settings settings;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final Semaphore permits;
+    private final CircuitBreaker circuitBreaker;
+
+    // 테스트용 생성자가 따로 있으므로 스프링이 쓸 생성자를 지정
+    @Autowired
+    public NeisClient(ObjectMapper objectMapper,
+                      @Value("${neis.api.key}") String apiKey,
+                      @Value("${neis.api.base-url:" + DEFAULT_BASE_URL + "}") String baseUrl) {
+        this(objectMapper, Settings.defaults(baseUrl, apiKey));
+    }
+
+    NeisClient(ObjectMapper objectMapper, Settings settings) {
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(settings.connectTimeout())
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.permits = new Semaphore(settings.maxConcurrentRequests());
+        this.circuitBreaker = new CircuitBreaker(settings.failureThreshold(), settings.openDuration());
+    }
+
+    // 학교명으로 학교 검색
+    public CompletableFuture<List<NeisSchoolRow>> searchSchools(String schoolName, int page, int size) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("pIndex", String.valueOf(page));
+        params.put("pSize", String.valueOf(size));
+        if (schoolName != null) {
+            params.put("SCHUL_NM", schoolName.trim());
+        }
+        return fetchRows("schoolInfo", params, new TypeReference<List<NeisSchoolRow>>() {});
+    }
+
+    // 초등학교 반 시간표 (기간 지정)
+    public CompletableFuture<List<NeisTimetableRow>> fetchTimetable(String scCode, String schoolCode,
+                                                                    int grade, int classNum,
+                                                                    String startDate, String endDate,
+                                                                    String ay, String sem) {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("pIndex", "1");
+        params.put("pSize", "1000");
+        params.put("ATPT_OFCDC_SC_CODE", scCode);
+        params.put("SD_SCHUL_CODE", schoolCode);
+        params.put("AY", ay);
+        params.put("SEM", sem);
+        params.put("GRADE", String.valueOf(grade));
+        params.put("CLASS_NM", String.valueOf(classNum));
+        params.put("TI_FROM_YMD", startDate);
+        params.put("TI_TO_YMD", endDate);
+        return fetchRows("elsTimetable", params, new TypeReference<List<NeisTimetableRow>>() {});
+    }
+
+    public boolean isCircuitOpen() {
+        return circuitBreaker.isOpen();
+    }
+
+    private <T> CompletableFuture<List<T>> fetchRows(String service, Map<String, String> params,
+                                                     TypeReference<List<T>> rowType) {
+        // 느린 나이스 때문에 요청이 쌓이지 않도록 자리가 없으면 기다리지 않고 바로 실패
+        if (!permits.tryAcquire()) {
+            return CompletableFuture.failedFuture(new NeisUnavailableException("나이스 동시 요청 한도 초과"));
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            permits.release();
+            return CompletableFuture.failedFuture(new NeisUnavailableException("나이스 서킷 열림"));
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(buildUri(service, params))
+                .timeout(settings.requestTimeout())
+                .header("Accept", "application/json")
+                .header("User-Agent", "icethang-server")
+                .GET()
+                .build();
+
+        return attempt(request, 0)
+                .thenApply(root -> parseRows(service, root, rowType))
+                .whenComplete((rows, error) -> {
+                    permits.release();
+                    if (error == null) {
+                        circuitBreaker.onSuccess();
+                    } else if (isRetryable(unwrap(error))) {
+                        // 서버 쪽 문제만 서킷에 반영 (잘못된 파라미터 등은 제외)
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onIgnored();
+                    }
+                });
+    }
+
+    // 일시적 오류(HTTP 5xx, 나이스 ERROR-5xx/6xx 결과 코드 등)면 백오프 후 재시도, 해석한 응답 반환
+    private CompletableFuture<JsonNode> attempt(HttpRequest request, int retry) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                .thenApply(this::checkStatus)
+                .thenApply(this::checkResult)
+                .handle((root, error) -> {
+                    if (error == null) {
+                        return CompletableFuture.completedFuture(root);
+                    }
+                    Throwable cause = unwrap(error);
+                    if (retry >= settings.maxRetries() || !isRetryable(cause)) {
+                        return CompletableFuture.<JsonNode>failedFuture(cause);
+                    }
+                    long delay = backoffMillis(retry);
+                    log.debug("나이스 재시도 {}회차 ({}ms 후): {}", retry + 1, delay, cause.toString());
+                    return CompletableFuture.supplyAsync(() -> null,
+                                    CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> attempt(request, retry + 1));
+                })
+                .thenCompose(future -> future);
+    }
+
+    private String checkStatus(HttpResponse<String> response) {
+        int status = response.statusCode();
+        if (status == 429 || status >= 500) {
+            throw new NeisApiException("나이스 응답 오류: HTTP " + status, true);
+        }
+        if (status >= 400) {
+            throw new NeisApiException("나이스 요청 오류: HTTP " + status, false);
+        }
+        return response.body();
+    }
+
+    // 나이스 응답: {"service":[{"head":[...]},{"row":[...]}]} / 데이터 없거나 오류면 {"RESULT":{"CODE":...}}
+    // HTTP 200 으로 오는 오류 결과 코드도 재시도 판단에 들어가도록 여기서 확인
+    private JsonNode checkResult(String body) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new NeisApiException("나이스 응답 해석 실패", e, false);
+        }
+
+        JsonNode result = root.path("RESULT");
+        if (!result.isMissingNode()) {
+            String code = result.path("CODE").asText();
+            if (!NO_DATA.equals(code)) {
+                // ERROR-500/600 등은 나이스 내부 오류
+                boolean serverError = code.startsWith("ERROR-5") || code.startsWith("ERROR-6");
+                throw new NeisApiException("나이스 오류 " + code + ": " + result.path("MESSAGE").asText(), serverError);
+            }
+        }
+        return root;
+    }
+
+    private <T> List<T> parseRows(String service, JsonNode root, TypeReference<List<T>> rowType) {
+        // 결과 코드만 있으면 조회 결과 없음 (오류 코드는 checkResult 에서 걸러짐)
+        if (root.has("RESULT")) {
+            return List.of();
+        }
+        for (JsonNode section : root.path(service)) {
+            JsonNode rows = section.get("row");
+            if (rows != null) {
+                return objectMapper.convertValue(rows, rowType);
+            }
+        }
+        return List.of();
+    }
+
+    private URI buildUri(String service, Map<String, String> params) {
+        String query = params.entrySet().stream()
+                .map(e -> e.getKey() + "=" + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return URI.create(settings.baseUrl() + "/" + service
+                + "?KEY=" + URLEncoder.encode(settings.apiKey().trim(), StandardCharsets.UTF_8)
+                + "&Type=json&" + query);
+    }
+
+    // full jitter: 0 ~ base * 2^retry
+    private long backoffMillis(int retry) {
+        long cap = settings.backoffBase().toMillis() << retry;
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    private static boolean isRetryable(Throwable error) {
+        if (error instanceof NeisApiException neis) {
+            return neis.isRetryable();
+        }
+        // 연결 실패, 타임아웃(HttpTimeoutException) 등
+        return error instanceof IOException;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    record Settings(String baseUrl,
+                    String apiKey,
+                    Duration connectTimeout,
+                    Duration requestTimeout,
+                    int maxConcurrentRequests,
+                    int maxRetries,
+                    Duration backoffBase,
+                    int failureThreshold,
+                    Duration openDuration) {
+
+        static Settings defaults(String baseUrl, String apiKey) {
+            return new Settings(baseUrl, apiKey,
+                    Duration.ofSeconds(2),
+                    Duration.ofSeconds(3),
+                    8,
+                    2,
+                    Duration.ofMillis(200),
+                    5,
+                    Duration.ofSeconds(30));
+        }
+    }
+}
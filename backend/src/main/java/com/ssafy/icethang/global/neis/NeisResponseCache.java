@@ -0,0 +1,139 @@
+package com.ssafy.icethang.global.neis;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 나이스 응답 캐시 (L1: 서버 로컬, L2: redis 에 행 목록 JSON 그대로, 키 = 요청 파라미터)
+// fresh 기간이 지나면 일단 캐시된 응답을 주고 뒤에서 다시 받아옴 (stale-while-revalidate)
+// hardTtl 이 지나면 버리고 새로 받을 때까지 기다림
+public class NeisResponseCache {
+
+    private static final String KEY_PREFIX = "neis:cache:";
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(10);
+
+    // 엔드포인트별 캐시 기간
+    public enum Policy {
+        // 학교 정보는 거의 바뀌지 않음, 없는 학교명(오타)도 하루는 다시 묻지 않음
+        SCHOOL_SEARCH("school", Duration.ofDays(7), Duration.ofDays(30), Duration.ofDays(1)),
+        // 시간표는 학기 중 바뀔 수 있음, 아직 등록 전(빈 결과)이면 금방 다시 확인
+        TIMETABLE("timetable", Duration.ofHours(6), Duration.ofDays(7), Duration.ofHours(1));
+
+        private final String prefix;
+        private final Duration fresh;
+        private final Duration hardTtl;
+        private final Duration emptyFresh;
+
+        Policy(String prefix, Duration fresh, Duration hardTtl, Duration emptyFresh) {
+            this.prefix = prefix;
+            this.fresh = fresh;
+            this.hardTtl = hardTtl;
+            this.emptyFresh = emptyFresh;
+        }
+    }
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Cache<String, Entry<?>> localCache = Caffeine.newBuilder()
+            .maximumSize(20_000)
+            .expireAfterWrite(LOCAL_TTL)
+            .build();
+    // 이 서버에서 이미 백그라운드 갱신 중인 키
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 캐시에 있으면 바로 완료된 future (오래됐으면 뒤에서 갱신), 없으면 loader 결과를 저장해서 반환
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<List<T>> get(Policy policy, String key, Class<T> rowType,
+                                              Supplier<CompletableFuture<List<T>>> loader) {
+        String cacheKey = KEY_PREFIX + policy.prefix + ":" + key;
+        long now = System.currentTimeMillis();
+
+        Entry<T> entry = (Entry<T>) localCache.getIfPresent(cacheKey);
+        if (entry == null) {
+            entry = readRedis(cacheKey, rowType);
+            if (entry != null) {
+                localCache.put(cacheKey, entry);
+            }
+        }
+
+        if (entry != null && now - entry.fetchedAt() < policy.hardTtl.toMillis()) {
+            Duration fresh = entry.rows().isEmpty() ? policy.emptyFresh : policy.fresh;
+            if (now - entry.fetchedAt() >= fresh.toMillis()) {
+                refreshInBackground(policy, cacheKey, loader);
+            }
+            return CompletableFuture.completedFuture(entry.rows());
+        }
+
+        return loader.get().thenApply(rows -> store(policy, cacheKey, rows));
+    }
+
+    private <T> void refreshInBackground(Policy policy, String cacheKey, Supplier<CompletableFuture<List<T>>> loader) {
+        if (!refreshing.add(cacheKey)) {
+            return;
+        }
+        CompletableFuture<List<T>> future;
+        try {
+            future = loader.get();
+        } catch (RuntimeException e) {
+            refreshing.remove(cacheKey);
+            log.warn("나이스 캐시 갱신 실패: key={}", cacheKey, e);
+            return;
+        }
+        future.whenComplete((rows, error) -> {
+            refreshing.remove(cacheKey);
+            if (error == null) {
+                store(policy, cacheKey, rows);
+            } else {
+                // 기존 캐시를 hardTtl 까지 계속 사용
+                log.warn("나이스 캐시 갱신 실패, 기존 응답 유지: key={}, error={}", cacheKey, error.toString());
+            }
+        });
+    }
+
+    private <T> List<T> store(Policy policy, String cacheKey, List<T> rows) {
+        Entry<T> entry = new Entry<>(System.currentTimeMillis(), rows);
+        localCache.put(cacheKey, entry);
+        try {
+            stringRedisTemplate.opsForValue().set(cacheKey, objectMapper.writeValueAsString(entry), policy.hardTtl);
+        } catch (Exception e) {
+            log.warn("나이스 캐시(redis) 저장 실패: key={}", cacheKey, e);
+        }
+        return rows;
+    }
+
+    private <T> Entry<T> readRedis(String cacheKey, Class<T> rowType) {
+        try {
+            String json = stringRedisTemplate.opsForValue().get(cacheKey);
+            if (json == null) {
+                return null;
+            }
+            JavaType type = objectMapper.getTypeFactory().constructParametricType(Entry.class, rowType);
+            return objectMapper.readValue(json, type);
+        } catch (Exception e) {
+            log.warn("나이스 캐시(redis) 조회 실패: key={}", cacheKey, e);
+            return null;
+        }
+    }
+
+    // fetchedAt = 나이스에서 받아온 시각 (epoch millis)
+    record Entry<T>(long fetchedAt, List<T> rows) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.ssafy.icethang.global.neis;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// 나이스 학교기본정보(schoolInfo) 행
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NeisSchoolRow(
+        @JsonProperty("ATPT_OFCDC_SC_CODE") String scCode,      // 시도교육청 코드
+        @JsonProperty("ATPT_OFCDC_SC_NM") String officeName,    // 시도교육청 이름
+        @JsonProperty("SD_SCHUL_CODE") String schoolCode,       // 표준 학교 코드
+        @JsonProperty("SCHUL_NM") String schoolName,
+        @JsonProperty("SCHUL_KND_SC_NM") String schoolKind,     // 초등학교, 중학교 ...
+        @JsonProperty("LCTN_SC_NM") String region,              // 소재지 (서울특별시 ...)
+        @JsonProperty("ORG_RDNMA") String address               // 도로명 주소
+) {
+}
@@ -0,0 +1,15 @@
+package com.ssafy.icethang.global.neis;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+// 나이스 초등학교 시간표(elsTimetable) 행
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NeisTimetableRow(
+        @JsonProperty("ALL_TI_YMD") String date,     // yyyyMMdd
+        @JsonProperty("GRADE") String grade,
+        @JsonProperty("CLASS_NM") String classNum,
+        @JsonProperty("PERIO") String period,        // 교시
+        @JsonProperty("ITRT_CNTNT") String subject
+) {
+}
@@ -0,0 +1,9 @@
+package com.ssafy.icethang.global.neis;
+
+// 요청을 보내지도 않고 거절 (서킷 열림 / 동시 요청 한도 초과)
+public class NeisUnavailableException extends NeisApiException {
+
+    public NeisUnavailableException(String message) {
+        super(message, false);
+    }
+}
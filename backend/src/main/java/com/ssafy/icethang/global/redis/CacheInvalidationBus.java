@@ -0,0 +1,70 @@
+package com.ssafy.icethang.global.redis;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 로컬(L1) 캐시 무효화를 redis pub/sub으로 모든 서버에 전파
+public class CacheInvalidationBus implements MessageListener {
+
+    private static final String CHANNEL = "cache:invalidate";
+    private static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    // 캐시 이름별 무효화 처리기
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    // 캐시 이름으로 무효화 처리기 등록
+    public void register(String cacheName, Consumer<String> handler) {
+        handlers.put(cacheName, handler);
+    }
+
+    // 무효화 메시지 발행 (자기 자신도 구독하고 있으므로 같이 지워짐)
+    public void publish(String cacheName, String payload) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, cacheName + SEPARATOR + payload);
+        } catch (Exception e) {
+            // redis 장애 시 최소한 내 서버 캐시는 비움
+            log.warn("캐시 무효화 전파 실패: cache={}, payload={}", cacheName, payload, e);
+            dispatch(cacheName, payload);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int idx = body.indexOf(SEPARATOR);
+        if (idx < 0) {
+            return;
+        }
+        dispatch(body.substring(0, idx), body.substring(idx + 1));
+    }
+
+    private void dispatch(String cacheName, String payload) {
+        Consumer<String> handler = handlers.get(cacheName);
+        if (handler != null) {
+            handler.accept(payload);
+        }
+    }
+}
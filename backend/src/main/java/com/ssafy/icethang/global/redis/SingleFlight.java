@@ -0,0 +1,139 @@
+package com.ssafy.icethang.global.redis;
+
+import com.ssafy.icethang.global.exception.ServiceUnavailableException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 같은 키로 동시에 들어온 작업을 한 번만 실행 (처음 호출한 스레드가 실행, 나머지는 같은 결과를 기다림)
+// 서버 간에는 redis 락(singleflight:{key})으로 한 서버씩만 실행
+public class SingleFlight {
+
+    private static final String KEY_PREFIX = "singleflight:";
+    private static final String BUSY = "요청이 많습니다. 잠시 후 다시 시도해주세요.";
+    // 락을 잡은 서버가 죽어도 이 시간 뒤에는 풀림
+    private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+    // 다른 서버의 락이 풀리기를 기다리는 최대 시간 (넘으면 락 없이 실행)
+    private static final Duration LOCK_WAIT = Duration.ofSeconds(15);
+    private static final long LOCK_POLL_MILLIS = 100;
+    // 같은 서버에서 기다리는 쪽 최대 대기 (락 대기 + 작업 시간)
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(30);
+
+    // 내가 잡은 락일 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * key 로 실행 중인 작업이 있으면 그 결과를 같이 받고, 없으면 직접 실행
+     * 다른 서버가 먼저 실행했을 수 있으므로 task 는 결과가 이미 있는지 다시 확인하고 시작해야 함
+     * task 에서 난 예외는 기다리던 호출에도 그대로 전달
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> task) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            return (T) await(running);
+        }
+
+        try {
+            T result = runLocked(key, task);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private <T> T runLocked(String key, Supplier<T> task) {
+        String lockKey = KEY_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        boolean locked = acquire(lockKey, token);
+        try {
+            return task.get();
+        } finally {
+            if (locked) {
+                release(lockKey, token);
+            }
+        }
+    }
+
+    // 락을 잡으면 true, 대기 시간 초과나 redis 장애면 false (이 서버 안에서만 합쳐서 실행)
+    private boolean acquire(String lockKey, String token) {
+        long deadline = System.nanoTime() + LOCK_WAIT.toNanos();
+        while (true) {
+            try {
+                if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(lockKey, token, LOCK_TTL))) {
+                    return true;
+                }
+            } catch (Exception e) {
+                log.warn("단일 실행 락 획득 실패, 락 없이 실행: key={}", lockKey, e);
+                return false;
+            }
+            if (System.nanoTime() >= deadline) {
+                log.warn("단일 실행 락 대기 시간 초과, 락 없이 실행: key={}", lockKey);
+                return false;
+            }
+            try {
+                Thread.sleep(LOCK_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceUnavailableException(BUSY);
+            }
+        }
+    }
+
+    private void release(String lockKey, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE, List.of(lockKey), token);
+        } catch (Exception e) {
+            // TTL 이 지나면 풀림
+            log.warn("단일 실행 락 해제 실패: key={}", lockKey, e);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get(AWAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ServiceUnavailableException(BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.ssafy.icethang.global.security;
+
+import com.ssafy.icethang.global.exception.TooManyRequestsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 비밀번호 해시를 전용 스레드풀에서만 실행 (요청 스레드는 결과만 기다림)
+// 대기열 길이 x 최근 평균 해시 시간으로 예상 대기 시간을 계산해서 제한을 넘으면 미리 거절
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final String OVERLOADED = "로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.";
+    // 평균 해시 시간 가중치 (최근 값 비중)
+    private static final double ALPHA = 0.1;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitNanos;
+
+    // 최근 해시 1회 평균 시간 (BCrypt cost 10 기준 대략 80ms 로 시작)
+    private volatile double averageHashNanos = TimeUnit.MILLISECONDS.toNanos(80);
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolExecutor executor, Duration maxWait) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T run(Callable<T> task) {
+        // 앞에 밀린 작업을 다 처리하는 데 걸릴 예상 시간
+        int waiting = executor.getQueue().size() + executor.getActiveCount();
+        double expectedWait = waiting * averageHashNanos / executor.getMaximumPoolSize();
+        if (expectedWait > maxWaitNanos) {
+            throw new TooManyRequestsException(OVERLOADED);
+        }
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(task));
+        } catch (RejectedExecutionException e) {
+            throw new TooManyRequestsException(OVERLOADED);
+        }
+
+        try {
+            return future.get(maxWaitNanos + (long) averageHashNanos * 2, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new TooManyRequestsException(OVERLOADED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new TooManyRequestsException(OVERLOADED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private <T> T timed(Callable<T> task) throws Exception {
+        long started = System.nanoTime();
+        try {
+            return task.call();
+        } finally {
+            long elapsed = System.nanoTime() - started;
+            averageHashNanos = averageHashNanos + ALPHA * (elapsed - averageHashNanos);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.ssafy.icethang.global.security;
+
+import com.ssafy.icethang.global.config.AppProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+@Component
+// 실제 클라이언트 IP (nginx 뒤에서는 소켓 주소가 모두 nginx 라서)
+// 신뢰하는 프록시에서 온 요청만 X-Forwarded-For(오른쪽부터) / X-Real-IP 를 읽음, 그 외에는 소켓 주소
+public class ClientIpResolver {
+
+    // 호스트 이름이 들어오면 DNS 조회가 일어나므로 IP 형태만 허용 (IPv4 는 숫자와 점, IPv6 는 콜론 포함)
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9.]+|[0-9a-fA-F.]*:[0-9a-fA-F:.]*");
+
+    private final List<Cidr> trustedProxies;
+
+    public ClientIpResolver(AppProperties appProperties) {
+        this.trustedProxies = appProperties.getProxy().getTrustedProxies().stream()
+                .map(Cidr::parse)
+                .toList();
+    }
+
+    /**
+     * 클라이언트 IP, 프록시 뒤인데 헤더가 없어 알 수 없으면 empty
+     * (그대로 프록시 IP 를 쓰면 모든 요청이 한 IP 로 묶임)
+     */
+    public Optional<String> resolve(HttpServletRequest request) {
+        String remote = request.getRemoteAddr();
+        if (!isTrusted(remote)) {
+            return Optional.ofNullable(remote);
+        }
+
+        // 오른쪽이 가장 가까운 홉, 클라이언트가 임의로 넣은 왼쪽 값은 믿지 않음
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null) {
+            String[] hops = forwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (!isIpLiteral(hop)) {
+                    break;
+                }
+                if (!isTrusted(hop)) {
+                    return Optional.of(hop);
+                }
+            }
+        }
+
+        String realIp = request.getHeader("X-Real-IP");
+        if (realIp != null && isIpLiteral(realIp.trim()) && !isTrusted(realIp.trim())) {
+            return Optional.of(realIp.trim());
+        }
+        return Optional.empty();
+    }
+
+    private boolean isTrusted(String ip) {
+        if (ip == null || !isIpLiteral(ip)) {
+            return false;
+        }
+        byte[] address = toBytes(ip);
+        return address != null && trustedProxies.stream().anyMatch(cidr -> cidr.contains(address));
+    }
+
+    private static boolean isIpLiteral(String value) {
+        return !value.isEmpty() && IP_LITERAL.matcher(value).matches();
+    }
+
+    private static byte[] toBytes(String ip) {
+        try {
+            return InetAddress.getByName(ip).getAddress();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private record Cidr(byte[] network, int prefixLength) {
+
+        static Cidr parse(String value) {
+            String[] parts = value.trim().split("/");
+            byte[] network = toBytes(parts[0]);
+            if (network == null || !isIpLiteral(parts[0])) {
+                throw new IllegalArgumentException("잘못된 프록시 대역: " + value);
+            }
+            int prefix = parts.length > 1 ? Integer.parseInt(parts[1]) : network.length * 8;
+            return new Cidr(network, prefix);
+        }
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits);
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.ssafy.icethang.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.icethang.global.exception.TooManyRequestsException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+// 로그인 시도 제한 (IP 별 / 이메일 별 token bucket)
+// 비밀번호 해시 전에 걸러서 무차별 대입이 해시 스레드풀을 차지하지 못하게
+public class LoginRateLimiter {
+
+    // IP: 학교 공유기 뒤에서 여러 선생님이 동시에 로그인할 수 있어 넉넉하게
+    private static final int IP_CAPACITY = 30;
+    private static final double IP_REFILL_PER_SECOND = 0.5;
+    // 이메일: 1분에 5번 정도
+    private static final int EMAIL_CAPACITY = 5;
+    private static final double EMAIL_REFILL_PER_SECOND = 5 / 60.0;
+
+    private final Cache<String, TokenBucket> ipBuckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    private final Cache<String, TokenBucket> emailBuckets = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+
+    // ip 가 null 이면 (프록시 뒤에서 클라이언트 IP 를 알 수 없음) 이메일 제한만 적용
+    // 프록시 IP 로 묶으면 모든 선생님이 버킷 하나를 나눠 써서 수업 직전 로그인이 429 로 막힘
+    public void check(String ip, String email) {
+        if (ip != null) {
+            TokenBucket ipBucket = ipBuckets.get(ip, k -> new TokenBucket(IP_CAPACITY, IP_REFILL_PER_SECOND));
+            if (!ipBucket.tryAcquire()) {
+                throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+        if (email == null) {
+            return;
+        }
+        TokenBucket emailBucket = emailBuckets.get(email.toLowerCase(),
+                k -> new TokenBucket(EMAIL_CAPACITY, EMAIL_REFILL_PER_SECOND));
+        if (!emailBucket.tryAcquire()) {
+            throw new TooManyRequestsException("해당 계정의 로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private static final class TokenBucket {
+        private final int capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        private TokenBucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerNano = refillPerSecond / 1_000_000_000.0;
+            this.tokens = capacity;
+            this.lastRefill = System.nanoTime();
+        }
+
+        private synchronized boolean tryAcquire() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+            lastRefill = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
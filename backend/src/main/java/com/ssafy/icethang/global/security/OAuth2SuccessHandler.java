@@ -1,6 +1,5 @@
 package com.ssafy.icethang.global.security;
 
-import com.ssafy.icethang.global.redis.RedisService;
 import com.ssafy.icethang.global.security.oauth2.HttpCookieOAuth2AuthorizationRequestRepository;
 import com.ssafy.icethang.global.utill.CookieUtil;
 import jakarta.servlet.ServletException;
@@ -14,7 +13,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
-import java.time.Duration;
 import java.util.Optional;
 
 import static com.ssafy.icethang.global.security.oauth2.HttpCookieOAuth2AuthorizationRequestRepository.REDIRECT_URI_PARAM_COOKIE_NAME;
@@ -23,7 +21,7 @@ import static com.ssafy.icethang.global.security.oauth2.HttpCookieOAuth2Authoriz
 @RequiredArgsConstructor
 public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
     private final TokenProvider tokenProvider;
-    private final RedisService redisService;
+    private final RefreshTokenService refreshTokenService;
     private final CookieUtil cookieUtil;
     private final HttpCookieOAuth2AuthorizationRequestRepository httpCookieOAuth2AuthorizationRequestRepository;
 
@@ -32,13 +30,8 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
         // 1. 토큰 생성
         String accessToken = tokenProvider.createToken(authentication);
-        String refreshToken = tokenProvider.createRefreshToken(authentication);
-
-        UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
-        String email = userPrincipal.getEmail();
-
-        // redis에 리프레쉬 토큰 저장
-        redisService.setValues(email, refreshToken, Duration.ofDays(7));
+        // redis에 리프레쉬 토큰 저장 (기기별 family)
+        String refreshToken = refreshTokenService.issue(authentication);
 
         // 쿠키 굽기
         cookieUtil.addTokenCookies(response, accessToken, refreshToken);
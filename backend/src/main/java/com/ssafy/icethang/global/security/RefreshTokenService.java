@@ -0,0 +1,122 @@
+package com.ssafy.icethang.global.security;
+
+import com.ssafy.icethang.global.exception.UnAuthorizedException;
+import com.ssafy.icethang.global.security.TokenProvider.RefreshClaims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+// 리프레시 토큰 저장소 (redis hash: refresh:{email 또는 기기 UUID} -> {familyId: "tokenId:만료시각"})
+// 로그인한 기기마다 family 가 하나씩 생겨서 다른 기기 로그인이 기존 기기를 로그아웃시키지 않음
+// 재발급은 조회/비교/교체를 Lua 한 번으로 처리하고, 이미 회전된 토큰이 다시 오면 해당 family 를 폐기
+public class RefreshTokenService {
+
+    private static final String KEY_PREFIX = "refresh:";
+    // 마지막 재발급 이후 이 기간 동안 쓰지 않으면 만료 (기존과 동일하게 7일)
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private static final long ROTATED = 1;
+    private static final long REUSED = -1;
+
+    // 새 family 저장 + 만료된 family 정리
+    private static final DefaultRedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[3]) " +
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+            "for i = 1, #entries, 2 do " +
+            "  local value = entries[i + 1] " +
+            "  local expiresAt = tonumber(string.sub(value, string.find(value, ':', 1, true) + 1)) " +
+            "  if expiresAt < now then redis.call('HDEL', KEYS[1], entries[i]) end " +
+            "end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "return 1",
+            Long.class);
+
+    // 1: 회전 성공, 0: 없거나 만료된 family, -1: 재사용 감지 (family 폐기)
+    private static final DefaultRedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not current then return 0 end " +
+            "local sep = string.find(current, ':', 1, true) " +
+            "if tonumber(string.sub(current, sep + 1)) < tonumber(ARGV[4]) then " +
+            "  redis.call('HDEL', KEYS[1], ARGV[1]) return 0 end " +
+            "if string.sub(current, 1, sep - 1) ~= ARGV[2] then " +
+            "  redis.call('HDEL', KEYS[1], ARGV[1]) return -1 end " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[3]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[5]) " +
+            "return 1",
+            Long.class);
+
+    private final TokenProvider tokenProvider;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 로그인 시 새 family 로 발급
+    public String issue(Authentication authentication) {
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        String familyId = newId();
+        String tokenId = newId();
+        String refreshToken = tokenProvider.createRefreshToken(authentication, familyId, tokenId);
+
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.execute(ISSUE_SCRIPT, List.of(KEY_PREFIX + principal.getEmail()),
+                familyId, entry(tokenId, now), String.valueOf(now), String.valueOf(TTL.toMillis()));
+        return refreshToken;
+    }
+
+    // 재발급: 제시한 토큰이 family 의 최신 토큰일 때만 새 토큰으로 교체
+    public String rotate(RefreshClaims claims, Authentication authentication) {
+        String tokenId = newId();
+        String refreshToken = tokenProvider.createRefreshToken(authentication, claims.familyId(), tokenId);
+
+        long now = System.currentTimeMillis();
+        Long result = stringRedisTemplate.execute(ROTATE_SCRIPT, List.of(KEY_PREFIX + claims.subject()),
+                claims.familyId(), claims.tokenId(), entry(tokenId, now), String.valueOf(now), String.valueOf(TTL.toMillis()));
+
+        if (result != null && result == ROTATED) {
+            return refreshToken;
+        }
+        if (result != null && result == REUSED) {
+            // 탈취된 토큰이 먼저 쓰였을 수 있으므로 해당 기기 로그인을 끊음
+            log.warn("리프레시 토큰 재사용 감지: subject={}, family={}", claims.subject(), claims.familyId());
+            throw new UnAuthorizedException("이미 사용된 Refresh Token입니다. 다시 로그인해주세요.");
+        }
+        throw new UnAuthorizedException("만료되었거나 로그아웃된 Refresh Token입니다.");
+    }
+
+    // 로그아웃: 해당 기기 family 만 삭제, 토큰을 해석할 수 없으면 전체 삭제
+    public void revoke(String subject, String refreshToken) {
+        if (refreshToken != null) {
+            try {
+                RefreshClaims claims = tokenProvider.parseRefreshToken(refreshToken);
+                if (claims.subject().equals(subject)) {
+                    stringRedisTemplate.opsForHash().delete(KEY_PREFIX + subject, claims.familyId());
+                    return;
+                }
+            } catch (UnAuthorizedException ignored) {
+                // 만료/변조된 토큰이면 아래에서 전체 삭제
+            }
+        }
+        revokeAll(subject);
+    }
+
+    public void revokeAll(String subject) {
+        stringRedisTemplate.delete(KEY_PREFIX + subject);
+    }
+
+    private String entry(String tokenId, long now) {
+        return tokenId + ":" + (now + TTL.toMillis());
+    }
+
+    private String newId() {
+        return UUID.randomUUID().toString();
+    }
+}
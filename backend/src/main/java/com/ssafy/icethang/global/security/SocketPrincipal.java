@@ -0,0 +1,61 @@
+package com.ssafy.icethang.global.security;
+
+import lombok.Getter;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Getter
+// STOMP CONNECT 때 토큰으로 확인한 사용자 정보 (웹소켓 세션 속성에 저장, 이후 프레임은 이 값만 신뢰)
+public class SocketPrincipal implements Principal {
+
+    public static final String SESSION_KEY = "socketPrincipal";
+
+    public enum Role { STUDENT, TEACHER }
+
+    private final Role role;
+    private final Long userId;
+
+    // 학생 전용
+    private final Long classId;
+    private final String studentName;
+    private final Integer studentNumber;
+
+    // 선생님 전용: 담당 반 (연결 후 새로 만든 반은 확인되면 추가)
+    private final Set<Long> classIds;
+
+    private SocketPrincipal(Role role, Long userId, Long classId, String studentName, Integer studentNumber,
+                            Collection<Long> classIds) {
+        this.role = role;
+        this.userId = userId;
+        this.classId = classId;
+        this.studentName = studentName;
+        this.studentNumber = studentNumber;
+        this.classIds = ConcurrentHashMap.newKeySet();
+        this.classIds.addAll(classIds);
+    }
+
+    public static SocketPrincipal student(Long studentId, Long classId, String name, Integer studentNumber) {
+        return new SocketPrincipal(Role.STUDENT, studentId, classId, name, studentNumber, Set.of());
+    }
+
+    public static SocketPrincipal teacher(Long teacherId, Collection<Long> classIds) {
+        return new SocketPrincipal(Role.TEACHER, teacherId, null, null, null, classIds);
+    }
+
+    public boolean isStudent() {
+        return role == Role.STUDENT;
+    }
+
+    // 개인 메시지(convertAndSendToUser) 대상 이름
+    public static String studentName(Long studentId) {
+        return Role.STUDENT.name().toLowerCase() + ":" + studentId;
+    }
+
+    @Override
+    public String getName() {
+        return role.name().toLowerCase() + ":" + userId;
+    }
+}
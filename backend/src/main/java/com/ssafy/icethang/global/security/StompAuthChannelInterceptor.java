@@ -0,0 +1,185 @@
+package com.ssafy.icethang.global.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.icethang.domain.classgroup.repository.ClassGroupRepository;
+import com.ssafy.icethang.domain.student.dto.response.StudentPrincipalDto;
+import com.ssafy.icethang.domain.student.service.StudentPrincipalCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// STOMP 인증/인가
+// CONNECT 때 한 번만 토큰을 검증해서 세션에 사용자 정보를 묶고, 이후 프레임은 세션 값으로만 검사 (DB/토큰 파싱 없음)
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Pattern CLASS_TOPIC = Pattern.compile("^/topic/class/(\\d+)(/.*)?$");
+
+    private final TokenProvider tokenProvider;
+    private final StudentPrincipalCache studentPrincipalCache;
+    private final ClassGroupRepository classGroupRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT -> connect(accessor);
+            case SUBSCRIBE -> checkSubscribe(requirePrincipal(accessor), accessor.getDestination());
+            case SEND -> checkSend(requirePrincipal(accessor), accessor.getDestination(), message.getPayload());
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    // 토큰 검증 후 세션에 사용자 정보 저장
+    private void connect(StompHeaderAccessor accessor) {
+        Authentication authentication = tokenProvider.authenticate(resolveToken(accessor));
+        if (authentication == null) {
+            throw new MessageDeliveryException("유효하지 않은 토큰입니다.");
+        }
+        UserPrincipal user = (UserPrincipal) authentication.getPrincipal();
+        boolean student = authentication.getAuthorities().stream()
+                .anyMatch(a -> "ROLE_STUDENT".equals(a.getAuthority()));
+
+        SocketPrincipal principal;
+        if (student) {
+            // 학생 토큰의 subject 는 기기 UUID
+            StudentPrincipalDto info = studentPrincipalCache.get(user.getEmail())
+                    .orElseThrow(() -> new MessageDeliveryException("등록되지 않은 기기입니다."));
+            if (info.getClassId() == null) {
+                throw new MessageDeliveryException("반에 소속되지 않은 학생입니다.");
+            }
+            principal = SocketPrincipal.student(info.getStudentId(), info.getClassId(), info.getName(), info.getStudentNumber());
+        } else {
+            principal = SocketPrincipal.teacher(user.getId(), classGroupRepository.findIdsByTeacherId(user.getId()));
+        }
+
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes != null) {
+            attributes.put(SocketPrincipal.SESSION_KEY, principal);
+        }
+        accessor.setUser(principal);
+    }
+
+    private String resolveToken(StompHeaderAccessor accessor) {
+        String header = accessor.getFirstNativeHeader("Authorization");
+        if (StringUtils.hasText(header) && header.startsWith(BEARER_PREFIX)) {
+            return header.substring(BEARER_PREFIX.length());
+        }
+        String token = accessor.getFirstNativeHeader("accessToken");
+        if (!StringUtils.hasText(token)) {
+            throw new MessageDeliveryException("토큰이 없습니다.");
+        }
+        return token;
+    }
+
+    private SocketPrincipal requirePrincipal(StompHeaderAccessor accessor) {
+        SocketPrincipal principal = from(accessor);
+        if (principal == null) {
+            throw new MessageDeliveryException("인증되지 않은 연결입니다.");
+        }
+        return principal;
+    }
+
+    // 반 토픽은 본인 반(학생) / 담당 반(선생님)만 구독 가능
+    private void checkSubscribe(SocketPrincipal principal, String destination) {
+        if (destination == null) {
+            return;
+        }
+        // 개인 큐는 /user/queue/... 로만 구독 (세션별 실제 주소를 직접 구독하지 못하게)
+        if (destination.startsWith("/queue/")) {
+            throw new MessageDeliveryException("구독 권한이 없습니다: " + destination);
+        }
+        Matcher matcher = CLASS_TOPIC.matcher(destination);
+        if (matcher.matches() && !canAccessClass(principal, Long.valueOf(matcher.group(1)))) {
+            throw new MessageDeliveryException("구독 권한이 없습니다: " + destination);
+        }
+    }
+
+    private void checkSend(SocketPrincipal principal, String destination, Object payload) {
+        if (destination == null) {
+            return;
+        }
+        switch (destination) {
+            case "/app/enter", "/app/alert" -> {
+                if (!principal.isStudent()) {
+                    throw new MessageDeliveryException("학생만 보낼 수 있습니다.");
+                }
+                // 본문 id는 사용하지 않지만, 다른 학생/반을 사칭한 프레임은 바로 거절
+                JsonNode body = readBody(payload);
+                rejectMismatch(body, "studentId", principal.getUserId());
+                rejectMismatch(body, "classId", principal.getClassId());
+            }
+            case "/app/mode" -> {
+                if (principal.isStudent()) {
+                    throw new MessageDeliveryException("선생님만 보낼 수 있습니다.");
+                }
+                JsonNode classId = readBody(payload).get("classId");
+                if (classId == null || !classId.canConvertToLong() || !canAccessClass(principal, classId.asLong())) {
+                    throw new MessageDeliveryException("담당 반이 아닙니다.");
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private boolean canAccessClass(SocketPrincipal principal, Long classId) {
+        if (principal.isStudent()) {
+            return classId.equals(principal.getClassId());
+        }
+        if (principal.getClassIds().contains(classId)) {
+            return true;
+        }
+        // 연결 후에 만든 반일 수 있으므로 한 번 더 확인하고 기억
+        if (classGroupRepository.existsByIdAndTeacherId(classId, principal.getUserId())) {
+            principal.getClassIds().add(classId);
+            return true;
+        }
+        return false;
+    }
+
+    private JsonNode readBody(Object payload) {
+        try {
+            return objectMapper.readTree((byte[]) payload);
+        } catch (Exception e) {
+            throw new MessageDeliveryException("메시지 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private void rejectMismatch(JsonNode body, String field, Long expected) {
+        JsonNode value = body.get(field);
+        if (value != null && !value.isNull() && (!value.canConvertToLong() || value.asLong() != expected)) {
+            throw new MessageDeliveryException("세션 정보와 다른 " + field + " 입니다.");
+        }
+    }
+
+    // 컨트롤러에서 세션에 묶인 사용자 조회
+    public static SocketPrincipal from(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        Object value = attributes == null ? null : attributes.get(SocketPrincipal.SESSION_KEY);
+        return value instanceof SocketPrincipal principal ? principal : null;
+    }
+}
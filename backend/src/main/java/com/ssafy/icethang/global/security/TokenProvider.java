@@ -1,10 +1,13 @@
 package com.ssafy.icethang.global.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.ssafy.icethang.global.config.AppProperties;
+import com.ssafy.icethang.global.exception.UnAuthorizedException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,11 +17,15 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,10 +36,34 @@ public class TokenProvider {
 
     private final AppProperties appProperties;
     private final Key key;
-
-
-    public TokenProvider(AppProperties appProperties) {
+    private final JwtParser jwtParser; // 요청마다 새로 만들지 않고 재사용 (thread-safe)
+    private final TokenRevocationService tokenRevocationService;
+
+    // 검증 끝난 토큰 캐시 (토큰 해시 -> 인증 정보), 토큰 만료 시각까지만 유지
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                    return Math.max(0, value.expiresAtMillis() - System.currentTimeMillis()) * 1_000_000L;
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+
+    public TokenProvider(AppProperties appProperties, TokenRevocationService tokenRevocationService) {
         this.appProperties = appProperties;
+        this.tokenRevocationService = tokenRevocationService;
 
         // 1. yml에 있는 비밀키를 가져와서
         String secret = appProperties.getAuth().getTokenSecret();
@@ -40,12 +71,20 @@ public class TokenProvider {
         // 2. Base64로 디코딩 후 Key 객체로 변환
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
+    }
+
+    // 서명 검증을 통과한 액세스 토큰의 인증 정보 (여러 요청이 공유하므로 불변 값만)
+    record VerifiedToken(UserPrincipal principal, List<GrantedAuthority> authorities, String tokenId, long expiresAtMillis) {
     }
 
     // 리프레시 토큰 유효기간: 14일
     private static final long REFRESH_TOKEN_EXPIRE_TIME = 1000 * 60 * 60 * 24 * 14;
     private static final String AUTHORITIES_KEY = "role";
     private static final String USER_ID_KEY = "userId";
+    private static final String FAMILY_ID_KEY = "fid";
 
     // 엑세스 토큰 생성
     public String createToken(Authentication authentication) {
@@ -63,14 +102,15 @@ public class TokenProvider {
                 .setSubject(userPrincipal.getEmail())
                 .claim(USER_ID_KEY, userPrincipal.getId())
                 .claim(AUTHORITIES_KEY, authorities)
+                .setId(UUID.randomUUID().toString()) // 로그아웃 시 폐기용
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    // 리프레시 토큰 생성
-    public String createRefreshToken(Authentication authentication) {
+    // 리프레시 토큰 생성 (familyId: 기기별 로그인 단위, tokenId: 회전할 때마다 새로 발급)
+    public String createRefreshToken(Authentication authentication, String familyId, String tokenId) {
         UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
 
         Date now = new Date();
@@ -78,83 +118,97 @@ public class TokenProvider {
 
         return Jwts.builder()
                 .setSubject(userPrincipal.getEmail())
+                .setId(tokenId)
                 .claim(USER_ID_KEY, userPrincipal.getId())
+                .claim(FAMILY_ID_KEY, familyId)
                 .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
                 .signWith(key, SignatureAlgorithm.HS512)
                 .compact();
     }
 
-    // 토큰에서 인증 정보 꺼내기
-    public Authentication getAuthentication(String accessToken) {
-
-        Claims claims = parseClaims(accessToken);
-
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-
-        Long userId = claims.get(USER_ID_KEY, Long.class);
-        String email = claims.getSubject();
-
-        UserPrincipal principal = new UserPrincipal(userId, email, "", authorities);
-
-        // 권한체크 추가
-        return new UsernamePasswordAuthenticationToken(principal, accessToken, authorities);
-    }
-
-    // 헬퍼 메서드
-    private Claims parseClaims(String accessToken) {
+    // 리프레시 토큰 검증 + 클레임 해석 (재발급/로그아웃용)
+    public RefreshClaims parseRefreshToken(String refreshToken) {
+        Claims claims;
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(accessToken)
-                    .getBody();
-        } catch (ExpiredJwtException e) {
-            return e.getClaims();
+            claims = jwtParser.parseClaimsJws(refreshToken).getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
+            throw new UnAuthorizedException("Refresh Token이 유효하지 않습니다.");
+        }
+        String familyId = claims.get(FAMILY_ID_KEY, String.class);
+        // 액세스 토큰이거나 기기 구분이 없던 예전 형식이면 거절 (다시 로그인)
+        if (claims.get(AUTHORITIES_KEY) != null || familyId == null || claims.getId() == null) {
+            throw new UnAuthorizedException("Refresh Token이 유효하지 않습니다.");
         }
+        return new RefreshClaims(claims.getSubject(), claims.get(USER_ID_KEY, Long.class), familyId, claims.getId());
     }
 
-    // 토큰 유효시간
-    public Long getExpiration(String accessToken){
-        Date expiration = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(accessToken)
-                .getBody()
-                .getExpiration();
-
-        Long now  = new Date().getTime();
-        return (expiration.getTime() - now);
+    public record RefreshClaims(String subject, Long userId, String familyId, String tokenId) {
     }
 
-    // 웹소켓 연결시 토큰에서 id, email 추출이 필요하면 추가
+    /**
+     * 요청 인증용: 검증과 인증 정보 생성을 한 번의 파싱으로 처리
+     * 같은 토큰이 다시 오면 캐시에서 꺼내 서명 검증도 생략
+     * 유효하지 않거나 액세스 토큰이 아니면 null
+     */
+    public Authentication authenticate(String accessToken) {
+        String cacheKey = hash(accessToken);
+        VerifiedToken verified = verifiedTokens.getIfPresent(cacheKey);
+        if (verified == null || verified.expiresAtMillis() <= System.currentTimeMillis()) {
+            verified = verify(accessToken);
+            if (verified == null) {
+                return null;
+            }
+            verifiedTokens.put(cacheKey, verified);
+        }
+        // 폐기 여부는 캐시와 상관없이 매번 확인 (대부분 로컬 Bloom filter 에서 끝남)
+        if (tokenRevocationService.isRevoked(verified.tokenId())) {
+            return null;
+        }
+        // 토큰 객체는 요청마다 새로 (SecurityContext 에서 변경될 수 있으므로)
+        return new UsernamePasswordAuthenticationToken(verified.principal(), accessToken, verified.authorities());
+    }
 
-    // 토큰 유효성 검증
-    public boolean validateToken(String authToken) {
+    // 캐시 없이 서명 검증 + 클레임 해석 한 번 (벤치마크에서도 사용)
+    VerifiedToken verify(String accessToken) {
+        Claims claims;
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(authToken);
-            return true;
-        } catch (SignatureException ex) {
-            logger.error("Invalid JWT signature");
-        } catch (MalformedJwtException ex) {
-            logger.error("Invalid JWT token");
+            claims = jwtParser.parseClaimsJws(accessToken).getBody();
         } catch (ExpiredJwtException ex) {
             logger.error("Expired JWT token");
-        } catch (UnsupportedJwtException ex) {
-            logger.error("Unsupported JWT token");
-        } catch (IllegalArgumentException ex) {
-            logger.error("JWT claims string is empty.");
+            return null;
+        } catch (JwtException | IllegalArgumentException ex) {
+            logger.error("Invalid JWT token: {}", ex.getMessage());
+            return null;
+        }
+
+        // 리프레시 토큰은 권한 클레임이 없으므로 요청 인증에 쓸 수 없음
+        Object role = claims.get(AUTHORITIES_KEY);
+        if (role == null || claims.getExpiration() == null) {
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = Arrays.stream(role.toString().split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toUnmodifiableList());
+        UserPrincipal principal = new UserPrincipal(claims.get(USER_ID_KEY, Long.class), claims.getSubject(), "", authorities);
+        return new VerifiedToken(principal, authorities, claims.getId(), claims.getExpiration().getTime());
+    }
+
+    // 액세스 토큰 폐기 (로그아웃), 이미 만료됐거나 jti 가 없는 예전 토큰이면 무시
+    public void revoke(String accessToken) {
+        VerifiedToken verified = verify(accessToken);
+        if (verified != null && verified.tokenId() != null) {
+            tokenRevocationService.revoke(verified.tokenId(), verified.expiresAtMillis());
         }
-        return false;
     }
 
-    public String getEmailFromToken(String token) {
-        return parseClaims(token).getSubject();
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
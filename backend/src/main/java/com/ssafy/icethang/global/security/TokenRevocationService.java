@@ -0,0 +1,116 @@
+package com.ssafy.icethang.global.security;
+
+import com.ssafy.icethang.global.redis.CacheInvalidationBus;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 로그아웃 등으로 폐기된 액세스 토큰 목록 (redis: revoked:jti:{jti}, TTL = 토큰 남은 수명)
+// 요청마다 redis 를 조회하지 않도록 서버마다 Bloom filter 를 두고, 있을 수도 있다고 나올 때만 redis 확인
+public class TokenRevocationService {
+
+    private static final String CHANNEL_NAME = "token-revoked";
+    private static final String KEY_PREFIX = "revoked:jti:";
+    private static final int EXPECTED_REVOCATIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    // Bloom filter 는 삭제가 안 되므로 주기적으로 redis 기준으로 새로 만들어 교체 (만료된 jti 정리)
+    private volatile BloomFilter current = newFilter();
+    // 재구성 중에 들어온 폐기도 새 필터에 반영되도록
+    private volatile BloomFilter rebuilding;
+    // 첫 재구성이 성공하기 전에는 필터가 비어 있으므로 필터를 믿지 않고 redis 를 직접 조회
+    private volatile boolean filterReady;
+
+    @PostConstruct
+    void init() {
+        cacheInvalidationBus.register(CHANNEL_NAME, this::addLocal);
+        rebuild();
+    }
+
+    // 폐기 여부 (대부분 Bloom filter 에서 바로 false)
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+        if (filterReady && !current.mightContain(tokenId)) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + tokenId));
+        } catch (Exception e) {
+            // 폐기됐을 가능성이 있는 토큰이므로 redis 장애 시에는 거절
+            log.warn("토큰 폐기 여부 조회 실패: jti={}", tokenId, e);
+            return true;
+        }
+    }
+
+    public void revoke(String tokenId, long expiresAtMillis) {
+        long remaining = expiresAtMillis - System.currentTimeMillis();
+        if (remaining <= 0) {
+            return;
+        }
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + tokenId, "1", Duration.ofMillis(remaining));
+        // 내 서버는 바로 반영, 다른 서버는 pub/sub 으로
+        addLocal(tokenId);
+        cacheInvalidationBus.publish(CHANNEL_NAME, tokenId);
+    }
+
+    @Scheduled(fixedDelay = 10 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    public void rebuild() {
+        BloomFilter next = newFilter();
+        rebuilding = next;
+        int count = 0;
+        try (Cursor<String> cursor = stringRedisTemplate.scan(ScanOptions.scanOptions()
+                .match(KEY_PREFIX + "*")
+                .count(1_000)
+                .build())) {
+            while (cursor.hasNext()) {
+                next.put(cursor.next().substring(KEY_PREFIX.length()));
+                count++;
+            }
+        } catch (Exception e) {
+            // 기존 필터를 그대로 사용 (오탐만 늘어남)
+            log.warn("폐기 토큰 필터 재구성 실패", e);
+            rebuilding = null;
+            return;
+        }
+        current = next;
+        rebuilding = null;
+        filterReady = true;
+        log.info("폐기 토큰 필터 재구성: {}건", count);
+    }
+
+    // 시작 시 재구성이 실패했으면 10분을 기다리지 않고 다시 시도 (그동안은 요청마다 redis 조회)
+    @Scheduled(fixedDelay = 30 * 1000, initialDelay = 30 * 1000)
+    public void retryRebuildIfNotReady() {
+        if (!filterReady) {
+            rebuild();
+        }
+    }
+
+    // 재구성 필터를 먼저 읽어야 교체 직전/직후 어느 쪽이든 새 필터에 들어감
+    private void addLocal(String tokenId) {
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(tokenId);
+        }
+        current.put(tokenId);
+    }
+
+    private static BloomFilter newFilter() {
+        return new BloomFilter(EXPECTED_REVOCATIONS, FALSE_POSITIVE_RATE);
+    }
+}
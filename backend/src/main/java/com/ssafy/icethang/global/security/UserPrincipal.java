@@ -1,5 +1,6 @@
 package com.ssafy.icethang.global.security;
 
+import com.ssafy.icethang.domain.auth.dto.response.TeacherPrincipalDto;
 import com.ssafy.icethang.domain.auth.entity.Auth;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
@@ -44,6 +45,26 @@ public class UserPrincipal implements OAuth2User, UserDetails {
         );
     }
 
+    // 캐시된 선생님 정보로 생성 (DB 조회 없이)
+    public static UserPrincipal create(TeacherPrincipalDto teacher) {
+        List<GrantedAuthority> authorities = Collections.singletonList(
+                new SimpleGrantedAuthority("ROLE_TEACHER")
+        );
+
+        return new UserPrincipal(
+                teacher.getTeacherId(),
+                teacher.getEmail(),
+                teacher.getPassword(),
+                authorities
+        );
+    }
+
+    public static UserPrincipal create(TeacherPrincipalDto teacher, Map<String, Object> attributes) {
+        UserPrincipal userPrincipal = UserPrincipal.create(teacher);
+        userPrincipal.setAttributes(attributes);
+        return userPrincipal;
+    }
+
     // 소셜로그인 전용
     public static UserPrincipal create(Auth auth, Map<String, Object> attributes) {
         UserPrincipal userPrincipal = UserPrincipal.create(auth);
@@ -2,95 +2,81 @@ package com.ssafy.icethang.global.utill;
 
 import com.ssafy.icethang.domain.auth.entity.Schools;
 import com.ssafy.icethang.domain.auth.repository.SchoolsRepository;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
-import org.springframework.http.converter.StringHttpMessageConverter;
+import com.ssafy.icethang.global.exception.ResourceNotFoundException;
+import com.ssafy.icethang.global.exception.ServiceUnavailableException;
+import com.ssafy.icethang.global.neis.NeisClient;
+import com.ssafy.icethang.global.neis.NeisResponseCache;
+import com.ssafy.icethang.global.neis.NeisSchoolRow;
+import com.ssafy.icethang.global.neis.NeisTimetableRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.net.URI;
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+@Slf4j
 @Service
+@RequiredArgsConstructor
+// 나이스 API 호출 (NeisResponseCache -> NeisClient)
+// 캐시에 있으면 나이스를 기다리지 않음, 캐시에 없는데 나이스가 느리거나 죽어 있으면 503
 public class NeisApiService {
 
-    private final SchoolsRepository schoolsRepository;
-    private final RestTemplate restTemplate;
-
-    @Value("${neis.api.key}")
-    private String apiKey;
-
-    // 생성자를 통해 Repository 주입 및 RestTemplate 초기화
-    public NeisApiService(SchoolsRepository schoolsRepository) {
-        this.schoolsRepository = schoolsRepository;
-        this.restTemplate = new RestTemplate();
+    // 재시도까지 포함한 NeisClient 최대 소요 시간보다 조금 길게 (요청 스레드가 무한정 묶이지 않도록)
+    private static final Duration MAX_WAIT = Duration.ofSeconds(12);
+    // 나이스 한 페이지 최대 건수
+    private static final int DIRECTORY_PAGE_SIZE = 1000;
+    private static final int DIRECTORY_MAX_PAGES = 50;
+    private static final String UNAVAILABLE = "나이스 서버가 응답하지 않습니다. 잠시 후 다시 시도해주세요.";
 
-        this.restTemplate.getMessageConverters()
-                .add(0, new StringHttpMessageConverter(StandardCharsets.UTF_8));
-    }
+    private final SchoolsRepository schoolsRepository;
+    private final NeisClient neisClient;
+    private final NeisResponseCache neisResponseCache;
 
     // 학교info API 연결
     public Schools searchAndSaveSchool(String schoolName) {
-        try {
-            // 1. 학교명 수동 인코딩
-            String encodedName = URLEncoder.encode(schoolName.trim(), StandardCharsets.UTF_8);
-
-            // 2. URL 조립
-            String urlString = "https://open.neis.go.kr/hub/schoolInfo"
-                    + "?KEY=" + apiKey.trim()
-                    + "&Type=json"
-                    + "&pIndex=1"
-                    + "&pSize=10"
-                    + "&SCHUL_NM=" + encodedName;
-
-            // 2. 헤더 설정 (브라우저와 똑같은 헤더 세팅)
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/121.0.0.0 Safari/537.36");
-            headers.set("Accept", "application/json, text/plain, */*");
-            headers.set("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7");
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-
-            // 3. URI 객체로 변환
-            URI uri = new URI(urlString);
-
-            // 4. 호출
-            ResponseEntity<Map> responseEntity = restTemplate.exchange(
-                    uri,
-                    HttpMethod.GET,
-                    entity,
-                    Map.class
-            );
+        String name = schoolName.trim();
+        // 띄어쓰기만 다른 학교명은 같은 요청으로 봄
+        String key = name.replaceAll("\\s+", "");
+        List<NeisSchoolRow> rows = await(neisResponseCache.get(NeisResponseCache.Policy.SCHOOL_SEARCH, key,
+                NeisSchoolRow.class, () -> neisClient.searchSchools(name, 1, 10)));
+        if (rows.isEmpty()) {
+            throw new ResourceNotFoundException("학교 정보를 찾을 수 없습니다.");
+        }
 
-            Map<String, Object> response = responseEntity.getBody();
+        // 다른 표기로 이미 저장된 학교면 그대로 사용 (sc_code + school_code 유니크)
+        NeisSchoolRow first = rows.get(0);
+        return schoolsRepository.findByScCodeAndSchoolCode(first.scCode(), first.schoolCode())
+                .orElseGet(() -> schoolsRepository.save(Schools.builder()
+                        .scCode(first.scCode())
+                        .schoolCode(first.schoolCode())
+                        .schoolName(first.schoolName())
+                        .build()));
+    }
 
-            // 5. 데이터 파싱
-            if (response == null || !response.containsKey("schoolInfo")) {
-                throw new RuntimeException("학교 정보를 찾을 수 없습니다.");
+    /**
+     * 나이스 학교 기본정보 전체 (페이지당 1000건, 전국 약 1.2만 곳)
+     * 목록 가져오기 전용이라 응답 캐시를 거치지 않음
+     */
+    public List<NeisSchoolRow> fetchSchoolDirectory() {
+        List<NeisSchoolRow> all = new ArrayList<>();
+        for (int page = 1; page <= DIRECTORY_MAX_PAGES; page++) {
+            List<NeisSchoolRow> rows = await(neisClient.searchSchools(null, page, DIRECTORY_PAGE_SIZE));
+            all.addAll(rows);
+            if (rows.size() < DIRECTORY_PAGE_SIZE) {
+                break;
             }
-
-            List<Map<String, Object>> schoolInfo = (List<Map<String, Object>>) response.get("schoolInfo");
-            Map<String, String> firstSchool = ((List<Map<String, String>>) schoolInfo.get(1).get("row")).get(0);
-
-            return schoolsRepository.save(Schools.builder()
-                    .scCode(firstSchool.get("ATPT_OFCDC_SC_CODE"))
-                    .schoolCode(firstSchool.get("SD_SCHUL_CODE"))
-                    .schoolName(firstSchool.get("SCHUL_NM"))
-                    .build());
-
-        } catch (Exception e) {
-            throw new RuntimeException("나이스 서버가 자바 요청을 거부함: " + e.getMessage());
         }
+        return all;
     }
 
     // 시간표 API 연결
-    public List<Map<String, String>> fetchTimetable(
+    public List<NeisTimetableRow> fetchTimetable(
             String scCode,
             String schoolCode,
             int grade,
@@ -100,44 +86,45 @@ public class NeisApiService {
             String ay,
             String sem
     ) {
-        try {
-            // 1. URL 조립
-            String urlString = "https://open.neis.go.kr/hub/elsTimetable"
-                    + "?KEY=" + apiKey.trim()
-                    + "&Type=json"
-                    + "&ATPT_OFCDC_SC_CODE=" + scCode
-                    + "&SD_SCHUL_CODE=" + schoolCode
-                    + "&AY=" + ay
-                    + "&SEM=" + sem
-                    + "&GRADE=" + grade
-                    + "&CLASS_NM=" + classNum
-                    + "&TI_FROM_YMD=" + startDate
-                    + "&TI_TO_YMD=" + endDate;
-
-            // 2. 헤더 설정
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/121.0.0.0 Safari/537.36");
-            headers.set("Accept", "application/json, text/plain, */*");
-            headers.set("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7");
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            URI uri = new URI(urlString);
-            // 2. 호출
-            ResponseEntity<Map> responseEntity = restTemplate.exchange(uri, HttpMethod.GET, entity, Map.class);
-            Map<String, Object> response = responseEntity.getBody();
-
-            // 3. 데이터 존재 여부 확인
-            if (response == null || !response.containsKey("elsTimetable")) {
-                return List.of();
-            }
+        return await(fetchTimetableAsync(scCode, schoolCode, grade, classNum, startDate, endDate, ay, sem));
+    }
 
-            // 4. 나이스 특유의 중첩 구조 파싱
-            List<Map<String, Object>> timetableInfo = (List<Map<String, Object>>) response.get("elsTimetable");
-            return (List<Map<String, String>>) timetableInfo.get(1).get("row");
+    // 비동기 버전 (캐시에 없고 나이스 호출도 실패하면 예외로 완료)
+    public CompletableFuture<List<NeisTimetableRow>> fetchTimetableAsync(
+            String scCode,
+            String schoolCode,
+            int grade,
+            int classNum,
+            String startDate,
+            String endDate,
+            String ay,
+            String sem
+    ) {
+        String key = timetableKey(scCode, schoolCode, grade, classNum, startDate, endDate, ay, sem);
+        return neisResponseCache.get(NeisResponseCache.Policy.TIMETABLE, key, NeisTimetableRow.class,
+                () -> neisClient.fetchTimetable(scCode, schoolCode, grade, classNum, startDate, endDate, ay, sem));
+    }
 
-        } catch (Exception e) {
-            throw new RuntimeException("나이스 시간표 호출 중 오류 발생: " + e.getMessage());
+    private <T> List<T> await(CompletableFuture<List<T>> future) {
+        try {
+            return future.get(MAX_WAIT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceUnavailableException(UNAVAILABLE);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("나이스 응답 대기 시간 초과");
+            throw new ServiceUnavailableException(UNAVAILABLE);
+        } catch (ExecutionException e) {
+            log.warn("나이스 호출 실패", e.getCause());
+            throw new ServiceUnavailableException(UNAVAILABLE);
         }
     }
 
-}
\ No newline at end of file
+    private static String timetableKey(String scCode, String schoolCode, int grade, int classNum,
+                                       String startDate, String endDate, String ay, String sem) {
+        return String.join(":", scCode, schoolCode, String.valueOf(grade), String.valueOf(classNum),
+                startDate, endDate, ay, sem);
+    }
+}
@@ -0,0 +1,94 @@
+package com.ssafy.icethang.domain.auth.service;
+
+import com.ssafy.icethang.domain.auth.dto.response.SchoolSearchResponse;
+import com.ssafy.icethang.domain.auth.entity.Schools;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 학교 이름 검색 순서 (완전/앞부분 일치 -> 중간 일치 -> 오타 허용), 같은 이름 학교, 짧은 검색어
+class SchoolNameIndexTest {
+
+    private final SchoolNameIndex index = new SchoolNameIndex(List.of(
+            school(1, "서울싸피초등학교", "서울특별시"),
+            school(2, "싸피초등학교", "서울특별시"),
+            school(3, "싸피초등학교", "부산광역시"),
+            school(4, "싸피중학교", "서울특별시"),
+            school(5, "싸피고등학교", "서울특별시"),
+            school(6, "대전싸피고등학교", "대전광역시"),
+            school(7, "한빛초등학교", "광주광역시")
+    ));
+
+    @Test
+    void prefixMatchesComeFirstShortestFirstThenContains() {
+        assertThat(ids(index.search("싸피", 10))).containsExactly(4, 5, 2, 3, 6, 1);
+    }
+
+    @Test
+    void limitCutsTheRanking() {
+        assertThat(ids(index.search("싸피", 2))).containsExactly(4, 5);
+        assertThat(index.search("싸피", 0)).isEmpty();
+    }
+
+    @Test
+    void containsFindsSchoolWithRegionPrefix() {
+        // "싸피초" -> 앞부분 일치 두 곳 다음에 "서울싸피초등학교"
+        assertThat(ids(index.search("싸피초", 10))).containsExactly(2, 3, 1);
+        assertThat(ids(index.search("울싸피", 10))).containsExactly(1);
+    }
+
+    @Test
+    void typoStillFindsSchool() {
+        // 글자 하나 틀림 (교 -> 고), 글자 하나 빠짐 (등)
+        assertThat(ids(index.search("싸피초등학고", 10))).containsExactly(2, 3, 1);
+        assertThat(ids(index.search("싸피초학교", 10))).startsWith(2, 3, 1);
+    }
+
+    @Test
+    void findByNameReturnsEverySchoolWithSameName() {
+        List<SchoolSearchResponse> matched = index.findByName("싸피초등학교");
+
+        assertThat(ids(matched)).containsExactly(2, 3);
+        assertThat(matched).extracting(SchoolSearchResponse::getRegion).containsExactly("서울특별시", "부산광역시");
+        assertThat(index.findByName("싸피초")).isEmpty();
+    }
+
+    @Test
+    void spacesAndDecomposedHangulAreIgnored() {
+        String decomposed = Normalizer.normalize("싸피초", Normalizer.Form.NFD);
+
+        assertThat(ids(index.search(decomposed, 10))).containsExactly(2, 3, 1);
+        assertThat(ids(index.findByName(" 싸피 초등학교 "))).containsExactly(2, 3);
+    }
+
+    @Test
+    void emptyAndOneCharQueries() {
+        assertThat(index.search("", 10)).isEmpty();
+        assertThat(index.search("   ", 10)).isEmpty();
+        assertThat(index.search(null, 10)).isEmpty();
+        assertThat(index.findByName(null)).isEmpty();
+
+        // 한 글자는 앞부분 일치만 (중간 일치, 오타 허용 없음)
+        assertThat(ids(index.search("싸", 10))).containsExactly(4, 5, 2, 3);
+        assertThat(index.search("초", 10)).isEmpty();
+    }
+
+    @Test
+    void blankNamesAreNotIndexed() {
+        SchoolNameIndex withBlank = new SchoolNameIndex(List.of(school(1, "싸피초등학교", null), school(2, " ", null)));
+
+        assertThat(withBlank.size()).isEqualTo(1);
+        assertThat(SchoolNameIndex.EMPTY.search("싸피", 10)).isEmpty();
+    }
+
+    private static Schools school(int id, String name, String region) {
+        return new Schools(id, "B10", "70" + id, name, region, null);
+    }
+
+    private static List<Integer> ids(List<SchoolSearchResponse> schools) {
+        return schools.stream().map(SchoolSearchResponse::getSchoolId).toList();
+    }
+}
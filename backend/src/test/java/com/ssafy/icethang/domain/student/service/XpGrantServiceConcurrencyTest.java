@@ -0,0 +1,113 @@
+package com.ssafy.icethang.domain.student.service;
+
+import com.ssafy.icethang.domain.student.entity.Student;
+import com.ssafy.icethang.domain.student.repository.StudentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 실제 MySQL/redis 필요: ./gradlew integrationTest
+@Tag("integration")
+@SpringBootTest
+class XpGrantServiceConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int GRANTS_PER_THREAD = 50;
+
+    @Autowired
+    private XpGrantService xpGrantService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private LevelRulesIndex levelRulesIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    // 학생은 soft delete 라 deleteAllById 로는 행이 남으므로 직접 삭제 (레벨업 보상 테마, redis 키 포함)
+    @AfterEach
+    void cleanUp() {
+        for (Long id : createdIds) {
+            jdbcTemplate.update("DELETE FROM student_unlocked_themes WHERE student_id = ?", id);
+            jdbcTemplate.update("DELETE FROM students WHERE student_id = ?", id);
+            stringRedisTemplate.delete(List.of("theme:owned:" + id, "student:changes:" + id));
+        }
+        createdIds.clear();
+    }
+
+    @Test
+    void concurrentGrantsAreNotLost() throws Exception {
+        Long a = createStudent();
+        Long b = createStudent();
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < GRANTS_PER_THREAD; i++) {
+                    if (i % 2 == 0) {
+                        // 반 일괄 부여 경로
+                        xpGrantService.grant(List.of(a, b), 1);
+                    } else {
+                        // 수업 종료 정산 경로 (학생마다 다른 양)
+                        xpGrantService.grantEach(Map.of(a, 2, b, 3));
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+
+        int half = GRANTS_PER_THREAD / 2;
+        int expectedA = THREADS * (half * 1 + half * 2);
+        int expectedB = THREADS * (half * 1 + half * 3);
+
+        Student studentA = studentRepository.findById(a).orElseThrow();
+        Student studentB = studentRepository.findById(b).orElseThrow();
+
+        assertThat(studentA.getCurrentXp()).isEqualTo(expectedA);
+        assertThat(studentB.getCurrentXp()).isEqualTo(expectedB);
+        assertThat(studentA.getCurrentLevel()).isEqualTo(levelRulesIndex.resolve(expectedA));
+        assertThat(studentB.getCurrentLevel()).isEqualTo(levelRulesIndex.resolve(expectedB));
+    }
+
+    private Long createStudent() {
+        Student student = studentRepository.save(Student.builder()
+                .name("동시성테스트")
+                .deviceUuid("xp-test-" + UUID.randomUUID())
+                .build());
+        createdIds.add(student.getId());
+        return student.getId();
+    }
+}
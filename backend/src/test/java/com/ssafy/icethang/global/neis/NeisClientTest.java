@@ -0,0 +1,302 @@
+package com.ssafy.icethang.global.neis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 로컬 스텁 서버로 나이스 지연/오류 상황 재현
+class NeisClientTest {
+
+    private static final String SCHOOL_BODY = """
+            {"schoolInfo":[
+              {"head":[{"list_total_count":1},{"RESULT":{"CODE":"INFO-000","MESSAGE":"정상 처리되었습니다."}}]},
+              {"row":[{"ATPT_OFCDC_SC_CODE":"B10","ATPT_OFCDC_SC_NM":"서울특별시교육청","SD_SCHUL_CODE":"7010000",
+                       "SCHUL_NM":"싸피초등학교","SCHUL_KND_SC_NM":"초등학교","LCTN_SC_NM":"서울특별시",
+                       "ORG_RDNMA":"서울특별시 강남구 테헤란로 212","UNUSED":"x"}]}
+            ]}
+            """;
+    private static final String NO_DATA_BODY = """
+            {"RESULT":{"CODE":"INFO-200","MESSAGE":"해당하는 데이터가 없습니다."}}
+            """;
+    private static final String SERVER_ERROR_BODY = """
+            {"RESULT":{"CODE":"ERROR-500","MESSAGE":"서버 오류입니다."}}
+            """;
+    private static final String BAD_KEY_BODY = """
+            {"RESULT":{"CODE":"ERROR-290","MESSAGE":"인증키가 유효하지 않습니다."}}
+            """;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    // 요청마다 응답을 정하는 스텁 동작
+    private volatile Stub stub;
+    private volatile URI lastUri;
+
+    @FunctionalInterface
+    private interface Stub {
+        void respond(HttpExchange exchange, int requestNumber) throws Exception;
+    }
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/", exchange -> {
+            int number = requests.incrementAndGet();
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                stub.respond(exchange, number);
+            } catch (Exception e) {
+                // 지연 중 클라이언트가 끊은 경우 등
+            } finally {
+                inFlight.decrementAndGet();
+                exchange.close();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Test
+    void parsesRowsIntoTypedRecords() throws Exception {
+        stub = (exchange, n) -> {
+            lastUri = exchange.getRequestURI();
+            send(exchange, 200, SCHOOL_BODY);
+        };
+
+        List<NeisSchoolRow> rows = client(settings()).searchSchools("싸피초등학교", 1, 10).get(5, TimeUnit.SECONDS);
+
+        assertThat(lastUri.getPath()).isEqualTo("/schoolInfo");
+        assertThat(lastUri.getQuery()).contains("Type=json", "SCHUL_NM=싸피초등학교");
+
+        assertThat(rows).containsExactly(new NeisSchoolRow("B10", "서울특별시교육청", "7010000", "싸피초등학교",
+                "초등학교", "서울특별시", "서울특별시 강남구 테헤란로 212"));
+    }
+
+    @Test
+    void noDataResultIsEmptyList() throws Exception {
+        stub = (exchange, n) -> send(exchange, 200, NO_DATA_BODY);
+
+        List<NeisTimetableRow> rows = client(settings())
+                .fetchTimetable("B10", "7010000", 3, 2, "20250301", "20250331", "2025", "1")
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(rows).isEmpty();
+    }
+
+    @Test
+    void retriesServerErrorsWithBackoff() throws Exception {
+        stub = (exchange, n) -> {
+            if (n <= 2) {
+                send(exchange, n == 1 ? 503 : 500, "busy");
+            } else {
+                send(exchange, 200, SCHOOL_BODY);
+            }
+        };
+
+        List<NeisSchoolRow> rows = client(settings()).searchSchools("싸피초등학교", 1, 10).get(5, TimeUnit.SECONDS);
+
+        assertThat(rows).hasSize(1);
+        assertThat(requests.get()).isEqualTo(3);
+    }
+
+    @Test
+    void retriesNeisServerErrorResultCodes() throws Exception {
+        // HTTP 200 이지만 본문 결과 코드가 나이스 내부 오류
+        stub = (exchange, n) -> send(exchange, 200, n == 1 ? SERVER_ERROR_BODY : SCHOOL_BODY);
+
+        List<NeisSchoolRow> rows = client(settings()).searchSchools("싸피초등학교", 1, 10).get(5, TimeUnit.SECONDS);
+
+        assertThat(rows).hasSize(1);
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotRetryNeisClientErrorResultCodes() {
+        stub = (exchange, n) -> send(exchange, 200, BAD_KEY_BODY);
+
+        assertThatThrownBy(() -> client(settings()).searchSchools("x", 1, 10).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(NeisApiException.class);
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        stub = (exchange, n) -> send(exchange, 400, "bad request");
+
+        assertThatThrownBy(() -> client(settings()).searchSchools("x", 1, 10).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(NeisApiException.class);
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void slowServerTimesOutInsteadOfHanging() {
+        stub = (exchange, n) -> {
+            Thread.sleep(2_000);
+            send(exchange, 200, SCHOOL_BODY);
+        };
+        NeisClient client = client(settings(Duration.ofMillis(200), 1, 8, 100));
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> client.searchSchools("x", 1, 10).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(HttpTimeoutException.class);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // 2번 시도 x 200ms + 백오프, 서버 지연(2초)보다 훨씬 짧아야 함
+        assertThat(elapsedMillis).isLessThan(1_500);
+        assertThat(requests.get()).isEqualTo(2);
+    }
+
+    @Test
+    void circuitOpensAfterConsecutiveFailuresAndShortCircuits() throws Exception {
+        stub = (exchange, n) -> send(exchange, 500, "down");
+        NeisClient client = client(settings(Duration.ofSeconds(1), 0, 8, 3));
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> client.searchSchools("x", 1, 10).get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(NeisApiException.class);
+        }
+        assertThat(client.isCircuitOpen()).isTrue();
+
+        // 열린 동안은 서버까지 가지 않음
+        assertThatThrownBy(() -> client.searchSchools("x", 1, 10).get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(NeisUnavailableException.class);
+        assertThat(requests.get()).isEqualTo(3);
+    }
+
+    @Test
+    void halfOpenTrialClosesCircuitWhenServerRecovers() throws Exception {
+        stub = (exchange, n) -> send(exchange, 500, "down");
+        NeisClient client = client(new NeisClient.Settings(baseUrl(), "test-key",
+                Duration.ofSeconds(1), Duration.ofSeconds(1), 8, 0, Duration.ofMillis(10),
+                2, Duration.ofMillis(300)));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.searchSchools("x", 1, 10).get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(NeisApiException.class);
+        }
+        assertThat(client.isCircuitOpen()).isTrue();
+
+        stub = (exchange, n) -> send(exchange, 200, SCHOOL_BODY);
+        Thread.sleep(400);
+
+        assertThat(client.searchSchools("x", 1, 10).get(5, TimeUnit.SECONDS)).hasSize(1);
+        assertThat(client.isCircuitOpen()).isFalse();
+    }
+
+    @Test
+    void halfOpenTrialWithClientErrorReleasesTrial() throws Exception {
+        stub = (exchange, n) -> send(exchange, 500, "down");
+        NeisClient client = client(new NeisClient.Settings(baseUrl(), "test-key",
+                Duration.ofSeconds(1), Duration.ofSeconds(1), 8, 0, Duration.ofMillis(10),
+                2, Duration.ofMillis(300)));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> client.searchSchools("x", 1, 10).get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(NeisApiException.class);
+        }
+        assertThat(client.isCircuitOpen()).isTrue();
+
+        // 시험 요청이 4xx 면 서킷 상태는 그대로, 시험 자리는 반환
+        stub = (exchange, n) -> send(exchange, 400, "bad request");
+        Thread.sleep(400);
+        assertThatThrownBy(() -> client.searchSchools("x", 1, 10).get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(NeisApiException.class);
+        assertThat(requests.get()).isEqualTo(3);
+
+        // 다음 요청이 다시 시험 요청으로 나가서 서버 회복 시 닫힘
+        stub = (exchange, n) -> send(exchange, 200, SCHOOL_BODY);
+        assertThat(client.searchSchools("x", 1, 10).get(5, TimeUnit.SECONDS)).hasSize(1);
+        assertThat(client.isCircuitOpen()).isFalse();
+        assertThat(requests.get()).isEqualTo(4);
+    }
+
+    @Test
+    void concurrentRequestsAreBoundedAndExcessFailsFast() throws Exception {
+        stub = (exchange, n) -> {
+            Thread.sleep(300);
+            send(exchange, 200, SCHOOL_BODY);
+        };
+        NeisClient client = client(settings(Duration.ofSeconds(2), 0, 2, 100));
+
+        List<CompletableFuture<List<NeisSchoolRow>>> futures = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            futures.add(client.searchSchools("x", 1, 10));
+        }
+
+        int succeeded = 0;
+        int rejected = 0;
+        for (CompletableFuture<List<NeisSchoolRow>> future : futures) {
+            try {
+                future.get(5, TimeUnit.SECONDS);
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(NeisUnavailableException.class);
+                rejected++;
+            }
+        }
+
+        assertThat(succeeded).isEqualTo(2);
+        assertThat(rejected).isEqualTo(4);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        // 한도 초과 거절은 서킷에 반영하지 않음
+        assertThat(client.isCircuitOpen()).isFalse();
+    }
+
+    private NeisClient client(NeisClient.Settings settings) {
+        return new NeisClient(objectMapper, settings);
+    }
+
+    private NeisClient.Settings settings() {
+        return settings(Duration.ofSeconds(2), 2, 8, 100);
+    }
+
+    private NeisClient.Settings settings(Duration requestTimeout, int maxRetries, int maxConcurrent, int failureThreshold) {
+        return new NeisClient.Settings(baseUrl(), "test-key",
+                Duration.ofSeconds(1), requestTimeout, maxConcurrent, maxRetries, Duration.ofMillis(20),
+                failureThreshold, Duration.ofSeconds(30));
+    }
+
+    private String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+}
@@ -0,0 +1,146 @@
+package com.ssafy.icethang.global.redis;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 시간표 캐시 미스 100건이 동시에 들어온 상황 재현 (redis 는 mock)
+class SingleFlightTest {
+
+    private static final int THREADS = 100;
+    private static final String KEY = "timetable:1:1";
+
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final SingleFlight singleFlight = new SingleFlight(stringRedisTemplate);
+
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        pool = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesRunTaskOnce() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        List<String> results = fireConcurrently(() -> slowFetch(calls, "fetched"));
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(results).hasSize(THREADS).containsOnly("fetched");
+        verify(valueOperations, times(1)).setIfAbsent(eq("singleflight:" + KEY), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void failureIsSharedWithWaitersAndNextCallRetries() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        AtomicInteger calls = new AtomicInteger();
+
+        List<String> results = fireConcurrently(() -> {
+            slowFetch(calls, "unused");
+            throw new IllegalStateException("neis down");
+        });
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(results).hasSize(THREADS).containsOnly("error:neis down");
+
+        // 실패한 작업은 남아있지 않아 다음 호출은 새로 실행
+        assertThat(singleFlight.execute(KEY, () -> slowFetch(calls, "retried"))).isEqualTo("retried");
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void waitsForLockHeldByAnotherServer() throws Exception {
+        // 다른 서버가 락을 잡고 있다가 세 번째 시도에서 풀림
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(false, false, true);
+        AtomicInteger calls = new AtomicInteger();
+
+        List<String> results = fireConcurrently(() -> slowFetch(calls, "fetched"));
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(results).containsOnly("fetched");
+        verify(valueOperations, times(3)).setIfAbsent(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void redisFailureStillCoalescesLocally() throws Exception {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        AtomicInteger calls = new AtomicInteger();
+
+        List<String> results = fireConcurrently(() -> slowFetch(calls, "fetched"));
+
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(results).containsOnly("fetched");
+    }
+
+    // 모든 스레드가 준비된 뒤 한 번에 시작, 예외는 "error:메시지" 로 수집
+    private List<String> fireConcurrently(Supplier<String> task) throws Exception {
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(pool.submit(() -> {
+                ready.countDown();
+                start.await();
+                try {
+                    return singleFlight.execute(KEY, task);
+                } catch (RuntimeException e) {
+                    return "error:" + e.getMessage();
+                }
+            }));
+        }
+        ready.await();
+        start.countDown();
+
+        List<String> results = new ArrayList<>();
+        for (Future<String> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    // 나이스 호출 대신 (나머지 스레드가 다 들어올 만큼 충분히 느리게)
+    private static String slowFetch(AtomicInteger calls, String value) {
+        calls.incrementAndGet();
+        try {
+            Thread.sleep(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
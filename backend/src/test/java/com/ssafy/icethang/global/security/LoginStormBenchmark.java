@@ -0,0 +1,120 @@
+package com.ssafy.icethang.global.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.icethang.domain.monitoring.dto.AlertType;
+import com.ssafy.icethang.domain.monitoring.dto.response.MonitoringAlertResponse;
+import com.ssafy.icethang.global.exception.TooManyRequestsException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 로그인 폭주 중 웹소켓 알림 처리 지연 벤치마크
+ * 실행: ./gradlew jmh -Pjmh=LoginStormBenchmark
+ *
+ * 같은 그룹에서 로그인 스레드 32개가 BCrypt 를 계속 돌리는 동안
+ * 알림 스레드 1개가 MonitoringAlertResponse 직렬화(브로커 전송 직전 작업) 지연을 측정
+ *
+ * - direct: 기존 방식 (요청 스레드에서 바로 BCrypt), 코어 수보다 많은 해시가 동시에 돌아 알림 지연이 커짐
+ * - bounded: BoundedPasswordEncoder (전용 풀 + 과부하 시 429), 알림 지연 p99 가 평소와 비슷하게 유지되어야 함
+ * 결과는 storm:alert 의 p0.99 / p0.999 를 비교
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class LoginStormBenchmark {
+
+    // 429 를 받은 클라이언트가 다시 요청하기까지의 간격 (바로 재시도하며 CPU 를 쓰지 않도록)
+    private static final long CLIENT_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    @Param({"direct", "bounded"})
+    public String encoder;
+
+    private PasswordEncoder passwordEncoder;
+    private ThreadPoolExecutor executor;
+    private String encodedPassword;
+    private ObjectMapper objectMapper;
+    private MonitoringAlertResponse alert;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder();
+        encodedPassword = bcrypt.encode("password1234");
+
+        if ("bounded".equals(encoder)) {
+            // ExecutorConfig.passwordHashExecutor 와 같은 설정
+            int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+            executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(threads * 16),
+                    new CustomizableThreadFactory("password-hash-"),
+                    new ThreadPoolExecutor.AbortPolicy());
+            passwordEncoder = new BoundedPasswordEncoder(bcrypt, executor, Duration.ofSeconds(2));
+        } else {
+            passwordEncoder = bcrypt;
+        }
+
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        alert = MonitoringAlertResponse.builder()
+                .studentId(1L)
+                .studentName("김싸피")
+                .studentNumber(7)
+                .type(AlertType.AWAY)
+                .message("김싸피 학생이 수업에서 이탈했습니다.")
+                .alertTime(LocalDateTime.now())
+                .totalAwayCount(3)
+                .totalUnfocusCount(1)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    @Group("storm")
+    @GroupThreads(32)
+    public boolean login() {
+        try {
+            return passwordEncoder.matches("password1234", encodedPassword);
+        } catch (TooManyRequestsException e) {
+            LockSupport.parkNanos(CLIENT_BACKOFF_NANOS);
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("storm")
+    @GroupThreads(1)
+    public byte[] alert() throws Exception {
+        return objectMapper.writeValueAsBytes(alert);
+    }
+}
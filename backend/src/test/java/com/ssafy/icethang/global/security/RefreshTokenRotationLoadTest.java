@@ -0,0 +1,145 @@
+package com.ssafy.icethang.global.security;
+
+import com.ssafy.icethang.global.exception.UnAuthorizedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 실제 redis 필요: ./gradlew integrationTest
+@Tag("integration")
+@SpringBootTest
+class RefreshTokenRotationLoadTest {
+
+    private static final int THREADS = 64;
+    private static final int USERS = 200;
+    private static final int DEVICES_PER_USER = 20;
+    private static final int ROTATIONS_PER_DEVICE = 3;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    private final String subjectPrefix = "load-test-" + UUID.randomUUID() + "-";
+
+    @AfterEach
+    void cleanUp() {
+        for (int u = 0; u < USERS; u++) {
+            refreshTokenService.revokeAll(subjectPrefix + u);
+        }
+    }
+
+    @Test
+    void concurrentReissuesAcrossDevicesAllSucceed() throws Exception {
+        // 사용자마다 여러 기기에서 로그인
+        List<Authentication> authentications = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (int u = 0; u < USERS; u++) {
+            Authentication authentication = authentication(subjectPrefix + u);
+            for (int d = 0; d < DEVICES_PER_USER; d++) {
+                authentications.add(authentication);
+                tokens.add(refreshTokenService.issue(authentication));
+            }
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            Authentication authentication = authentications.get(i);
+            futures.add(pool.submit(() -> {
+                start.await();
+                String current = token;
+                for (int r = 0; r < ROTATIONS_PER_DEVICE; r++) {
+                    current = refreshTokenService.rotate(tokenProvider.parseRefreshToken(current), authentication);
+                }
+                return current;
+            }));
+        }
+
+        start.countDown();
+        List<String> latest = new ArrayList<>();
+        for (Future<String> future : futures) {
+            latest.add(future.get(2, TimeUnit.MINUTES));
+        }
+        pool.shutdown();
+
+        // 기기마다 서로 다른 최신 토큰
+        assertThat(latest).hasSize(USERS * DEVICES_PER_USER).doesNotHaveDuplicates();
+
+        // 같은 사용자의 다른 기기 회전이 서로 덮어쓰지 않음
+        for (int i = 0; i < latest.size(); i++) {
+            String rotated = refreshTokenService.rotate(tokenProvider.parseRefreshToken(latest.get(i)), authentications.get(i));
+            assertThat(rotated).isNotBlank();
+        }
+    }
+
+    @Test
+    void replayedTokenWinsOnceAndRevokesFamily() throws Exception {
+        Authentication authentication = authentication(subjectPrefix + 0);
+        String token = refreshTokenService.issue(authentication);
+        TokenProvider.RefreshClaims claims = tokenProvider.parseRefreshToken(token);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        List<String> winners = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    String rotated = refreshTokenService.rotate(claims, authentication);
+                    succeeded.incrementAndGet();
+                    synchronized (winners) {
+                        winners.add(rotated);
+                    }
+                } catch (UnAuthorizedException ignored) {
+                    // 이미 회전된 토큰
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+
+        // 비교/교체가 원자적이라 정확히 한 요청만 성공
+        assertThat(succeeded.get()).isEqualTo(1);
+
+        // 재사용이 감지되면 family 가 폐기되어 성공한 쪽 토큰도 더 이상 쓸 수 없음
+        TokenProvider.RefreshClaims winner = tokenProvider.parseRefreshToken(winners.get(0));
+        assertThatThrownBy(() -> refreshTokenService.rotate(winner, authentication))
+                .isInstanceOf(UnAuthorizedException.class);
+    }
+
+    private Authentication authentication(String subject) {
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_TEACHER"));
+        UserPrincipal principal = new UserPrincipal(-1L, subject, "", authorities);
+        return new UsernamePasswordAuthenticationToken(principal, null, authorities);
+    }
+}
@@ -0,0 +1,131 @@
+package com.ssafy.icethang.global.security;
+
+import com.ssafy.icethang.global.config.AppProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 요청 인증 경로 벤치마크
+ * 실행: ./gradlew jmh -Pjmh=TokenAuthenticationBenchmark
+ *
+ * - legacyTwoParses: 예전 필터 방식 (검증용 파싱 + 인증 정보용 파싱, 서명 검증 2번), 비교 기준
+ * - singleParse: 캐시 없이 한 번만 검증
+ * - cachedAuthenticate: 같은 토큰 재요청 (캐시 적중)
+ * - filterPath: 필터 전체 (헤더 추출 + 캐시 적중 + SecurityContext 설정)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenAuthenticationBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private TokenProvider tokenProvider;
+    // 예전 TokenProvider 와 같은 설정의 파서 (validateToken/getAuthentication 은 지워졌으므로 여기서 재현)
+    private JwtParser legacyParser;
+    private TokenAuthenticationFilter filter;
+    private String token;
+    private MockHttpServletRequest request;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+
+        AppProperties appProperties = new AppProperties();
+        appProperties.getAuth().setTokenSecret(Base64.getEncoder().encodeToString(secret));
+        appProperties.getAuth().setTokenExpirationMsec(TimeUnit.HOURS.toMillis(1));
+        legacyParser = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(appProperties.getAuth().getTokenSecret())))
+                .build();
+
+        // 폐기된 토큰이 없는 redis 로 필터를 한 번 만들어두면 이후 조회는 Bloom filter 에서 끝남
+        StringRedisTemplate redis = mock(StringRedisTemplate.class);
+        Cursor<String> emptyCursor = mock(Cursor.class);
+        when(redis.scan(any(ScanOptions.class))).thenReturn(emptyCursor);
+        TokenRevocationService tokenRevocationService = new TokenRevocationService(redis, null);
+        tokenRevocationService.rebuild();
+        tokenProvider = new TokenProvider(appProperties, tokenRevocationService);
+        filter = new TokenAuthenticationFilter(tokenProvider);
+
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_TEACHER"));
+        UserPrincipal principal = new UserPrincipal(1L, "teacher@ssafy.com", "", authorities);
+        token = tokenProvider.createToken(new UsernamePasswordAuthenticationToken(principal, "", authorities));
+
+        request = new MockHttpServletRequest("GET", "/classes/1/students/1/statistics/daily");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        // 캐시 적중 경로용으로 한 번 채워둠
+        tokenProvider.authenticate(token);
+    }
+
+    // 예전 필터: validateToken 으로 한 번, getAuthentication 에서 또 한 번 파싱
+    @Benchmark
+    public Authentication legacyTwoParses() {
+        legacyParser.parseClaimsJws(token);
+
+        Claims claims = legacyParser.parseClaimsJws(token).getBody();
+        List<GrantedAuthority> authorities = Arrays.stream(claims.get("role").toString().split(","))
+                .map(SimpleGrantedAuthority::new)
+                .map(GrantedAuthority.class::cast)
+                .toList();
+        UserPrincipal principal = new UserPrincipal(claims.get("userId", Long.class), claims.getSubject(), "", authorities);
+        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    }
+
+    @Benchmark
+    public Object singleParse() {
+        return tokenProvider.verify(token);
+    }
+
+    @Benchmark
+    public Authentication cachedAuthenticate() {
+        return tokenProvider.authenticate(token);
+    }
+
+    @Benchmark
+    public Authentication filterPath() throws Exception {
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
@@ -118,7 +118,8 @@ export default function NormalClassScreen() {
     try {
       const [xpData, logs] = await Promise.all([
         getStudentXp(Number(classId), studentData.studentId),
-        getStudentLogs(Number(classId), studentData.studentId),
+        // 방금 끝난 수업 로그 하나만 필요
+        getStudentLogs(Number(classId), studentData.studentId, 1),
       ]);
 
       const latestLog = logs.length > 0 ? logs[0] : null;
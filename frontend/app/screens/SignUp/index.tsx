@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import { View, Text, TextInput, TouchableOpacity, Image, KeyboardAvoidingView, Platform, ScrollView, useWindowDimensions, Alert, StyleSheet, ActivityIndicator } from 'react-native';
 import { useRouter } from 'expo-router';
 import { Ionicons } from '@expo/vector-icons';
@@ -8,6 +8,7 @@ import NaverLogin from '@react-native-seoul/naver-login';
 import { initNaverLogin } from '../../utils/naverConfig';
 import { useDispatch, useSelector } from 'react-redux';
 import { signupTeacher, resetSignupState } from '../../store/slices/signupSlice';
+import { searchSchools, SchoolSearchItem } from '../../services/schoolService';
 
 
 const CONFIG = {
@@ -45,6 +46,10 @@ export default function SignupScreen() {
   const [password, setPassword] = useState('');
   const [passwordConfirm, setPasswordConfirm] = useState('');
   const [school, setSchool] = useState('');
+  // 검색 목록에서 고른 학교 (같은 이름 학교 구분용, 직접 입력을 바꾸면 선택 해제)
+  const [selectedSchool, setSelectedSchool] = useState<SchoolSearchItem | null>(null);
+  const [schoolResults, setSchoolResults] = useState<SchoolSearchItem[]>([]);
+  const searchTimer = useRef<ReturnType<typeof setTimeout> | null>(null);
   const [agreed, setAgreed] = useState(false);
 
   const CARD_RATIO = 1.35;
@@ -71,6 +76,37 @@ export default function SignupScreen() {
     initNaverLogin();
   }, []);
 
+  // 학교 이름 입력 시 검색 (입력이 멈추고 0.2초 뒤)
+  const handleSchoolChange = (text: string) => {
+    setSchool(text);
+    setSelectedSchool(null);
+    if (searchTimer.current) clearTimeout(searchTimer.current);
+
+    const query = text.trim();
+    if (!query) {
+      setSchoolResults([]);
+      return;
+    }
+    searchTimer.current = setTimeout(async () => {
+      try {
+        setSchoolResults(await searchSchools(query));
+      } catch (err) {
+        console.error('학교 검색 실패:', err);
+        setSchoolResults([]);
+      }
+    }, 200);
+  };
+
+  const handleSelectSchool = (item: SchoolSearchItem) => {
+    setSelectedSchool(item);
+    setSchool(item.schoolName);
+    setSchoolResults([]);
+  };
+
+  useEffect(() => () => {
+    if (searchTimer.current) clearTimeout(searchTimer.current);
+  }, []);
+
   const handleKakaoSignup = async () => {
     try {
       const token = await login();
@@ -121,6 +157,8 @@ export default function SignupScreen() {
         email,
         password,
         teacherName: name,
+        schoolName: school.trim(),
+        schoolId: selectedSchool?.schoolId,
       })
     );
   };
@@ -185,7 +223,27 @@ export default function SignupScreen() {
                 <InputBox icon="mail" placeholder="이메일" value={email} onChange={setEmail} height={inputHeight} fontSize={fontSizeInput} color="#F4D4D4" />
                 <InputBox icon="lock-closed" placeholder="비밀번호" value={password} onChange={setPassword} isPassword height={inputHeight} fontSize={fontSizeInput} color="#D4E4F7" />
                 <InputBox icon="checkmark-circle" placeholder="비밀번호 확인" value={passwordConfirm} onChange={setPasswordConfirm} isPassword height={inputHeight} fontSize={fontSizeInput} color="#F4D4D4" />
-                <InputBox icon="school" placeholder="소속 학교" value={school} onChange={setSchool} height={inputHeight} fontSize={fontSizeInput} color="#D4E4F7" />
+                <InputBox icon="school" placeholder="소속 학교 (검색 후 선택)" value={school} onChange={handleSchoolChange} height={inputHeight} fontSize={fontSizeInput} color="#D4E4F7" />
+                {schoolResults.length > 0 && (
+                  <View style={[styles.schoolResults, { top: (inputHeight + spacing) * 5 }]}>
+                    <ScrollView keyboardShouldPersistTaps="handled" nestedScrollEnabled>
+                      {schoolResults.map((item) => (
+                        <TouchableOpacity
+                          key={item.schoolId}
+                          onPress={() => handleSelectSchool(item)}
+                          style={styles.schoolResultItem}
+                        >
+                          <Text style={[styles.schoolResultName, { fontSize: fontSizeInput * 0.9 }]}>{item.schoolName}</Text>
+                          {!!(item.address || item.region) && (
+                            <Text style={[styles.schoolResultAddress, { fontSize: fontSizeInput * 0.7 }]} numberOfLines={1}>
+                              {item.address || item.region}
+                            </Text>
+                          )}
+                        </TouchableOpacity>
+                      ))}
+                    </ScrollView>
+                  </View>
+                )}
               </View>
 
               <TouchableOpacity 
@@ -357,6 +415,33 @@ const styles = StyleSheet.create({
     width: '100%',
     height: '100%',
   },
+  // 학교 검색 목록 (입력칸 아래에 겹쳐서 표시)
+  schoolResults: {
+    position: 'absolute',
+    left: 0,
+    right: 0,
+    maxHeight: 180,
+    backgroundColor: 'white',
+    borderWidth: 2,
+    borderColor: '#D4E4F7',
+    borderRadius: 16,
+    zIndex: 30,
+    elevation: 6,
+  },
+  schoolResultItem: {
+    paddingVertical: 8,
+    paddingHorizontal: 14,
+    borderBottomWidth: 1,
+    borderBottomColor: '#EEF3FA',
+  },
+  schoolResultName: {
+    color: '#4A5568',
+    fontWeight: '700',
+  },
+  schoolResultAddress: {
+    color: '#A0AEC0',
+    marginTop: 2,
+  },
   // InputBox 스타일
   inputContainer: {
     flexDirection: 'row',
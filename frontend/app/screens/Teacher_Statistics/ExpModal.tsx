@@ -9,7 +9,7 @@ import {
   ScrollView,
 } from "react-native";
 import { Star } from "lucide-react-native";
-import { giveStudentXp, getStudentXp, getStudentLogs } from "../../services/studentService";
+import { giveStudentXp, getStudentXp, getStudentLogPage } from "../../services/studentService";
 
 const formatDateTime = (
   createdAt?: string,
@@ -70,6 +70,8 @@ interface StudentLogResponse {
   reason?: string | null;
 }
 
+const HISTORY_PAGE_SIZE = 30;
+
 interface HistoryItem {
   id: number;
   dateText: string;
@@ -89,6 +91,9 @@ const ExpModal = ({
   const [currentXp, setCurrentXp] = useState(0);
   const [currentLevel, setCurrentLevel] = useState(0);
   const [history, setHistory] = useState<HistoryItem[]>([]);
+  // 경험치 기록은 페이지 단위로 (더 보기 누를 때 다음 페이지)
+  const [nextCursor, setNextCursor] = useState<string | null>(null);
+  const [loadingMore, setLoadingMore] = useState(false);
 
   const maxExp = 3000;
   const progressPercent = Math.min((currentXp / maxExp) * 100, 100);
@@ -152,19 +157,37 @@ const ExpModal = ({
     setInputReason("");
     fetchXpInfo();
 
-    const fetchHistory = async () => {
-      try {
-        const logs = await getStudentLogs(classId, studentId);
-        setHistory(formatHistory(logs));
-      } catch (e) {
-        console.error("학생 전체 기록 조회 실패:", e);
-      }
-    };
-
     fetchHistory();
   }, [visible]);
 
 
+  // 경험치 기록 첫 페이지
+  const fetchHistory = async () => {
+    try {
+      const page = await getStudentLogPage(classId, studentId, null, HISTORY_PAGE_SIZE);
+      setHistory(formatHistory(page.logs));
+      setNextCursor(page.hasNext ? page.nextCursor : null);
+    } catch (e) {
+      console.error("학생 전체 기록 조회 실패:", e);
+    }
+  };
+
+  // 경험치 기록 다음 페이지
+  const fetchMoreHistory = async () => {
+    if (!nextCursor || loadingMore) return;
+    setLoadingMore(true);
+    try {
+      const page = await getStudentLogPage(classId, studentId, nextCursor, HISTORY_PAGE_SIZE);
+      setHistory((prev) => [...prev, ...formatHistory(page.logs)]);
+      setNextCursor(page.hasNext ? page.nextCursor : null);
+    } catch (e) {
+      console.error("학생 기록 추가 조회 실패:", e);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
+
   // 경험치 부여
   const handleGiveXp = async () => {
     const parsedAmount = Number(amount);
@@ -188,8 +211,7 @@ const ExpModal = ({
       );
 
       await fetchXpInfo();
-      const logs = await getStudentLogs(classId, studentId);
-      setHistory(formatHistory(logs));
+      await fetchHistory();
 
       onClose();
     } catch (e) {
@@ -307,6 +329,18 @@ const ExpModal = ({
                       </Text>
                     </View>
                   ))}
+
+                  {nextCursor && (
+                    <TouchableOpacity
+                      style={styles.moreButton}
+                      onPress={fetchMoreHistory}
+                      disabled={loadingMore}
+                    >
+                      <Text style={styles.moreButtonText}>
+                        {loadingMore ? "불러오는 중..." : "더 보기"}
+                      </Text>
+                    </TouchableOpacity>
+                  )}
                 </ScrollView>
               </View>
             </View>
@@ -526,6 +560,17 @@ const styles = StyleSheet.create({
     fontWeight: "500",
   },
 
+  moreButton: {
+    paddingVertical: 8,
+    alignItems: "center",
+  },
+
+  moreButtonText: {
+    fontSize: 12,
+    color: "#8D7B68",
+    fontWeight: "bold",
+  },
+
   footer: {
     flexDirection: "row",
     justifyContent: "center",
@@ -0,0 +1,17 @@
+import api from '../api/api'
+
+export interface SchoolSearchItem {
+  schoolId: number
+  schoolName: string
+  region: string | null
+  address: string | null
+}
+
+// 회원가입 학교 검색 자동완성 (로그인 전 호출 가능)
+export const searchSchools = async (
+  query: string,
+  limit = 8
+): Promise<SchoolSearchItem[]> => {
+  const response = await api.get('/schools/search', { params: { q: query, limit } })
+  return Array.isArray(response.data) ? response.data : []
+}
@@ -18,14 +18,39 @@ export interface StudentLogResponse {
   endTime: string | null
 }
 
-export const getStudentLogs = async (
+export interface StudentLogPage {
+  logs: StudentLogResponse[]
+  nextCursor: string | null // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+  hasNext: boolean
+}
+
+// 학습 로그 한 페이지 (최신순, cursor 없으면 첫 페이지)
+export const getStudentLogPage = async (
   classId: number,
-  studentId: number
-): Promise<StudentLogResponse[]> => {
+  studentId: number,
+  cursor?: string | null,
+  size = 20
+): Promise<StudentLogPage> => {
   const response = await client.get(
-    `/classes/${classId}/students/${studentId}/logs`
+    `/classes/${classId}/students/${studentId}/logs`,
+    { params: { size, ...(cursor ? { cursor } : {}) } }
   )
-  return Array.isArray(response.data) ? response.data : []
+  const data = response.data
+  return {
+    logs: Array.isArray(data?.logs) ? data.logs : [],
+    nextCursor: data?.nextCursor ?? null,
+    hasNext: Boolean(data?.hasNext),
+  }
+}
+
+// 최신 로그 size 개 (첫 페이지만)
+export const getStudentLogs = async (
+  classId: number,
+  studentId: number,
+  size = 20
+): Promise<StudentLogResponse[]> => {
+  const page = await getStudentLogPage(classId, studentId, null, size)
+  return page.logs
 }
 
 
@@ -24,6 +24,8 @@ export const signupTeacher = createAsyncThunk<
     email: string;
     password: string;
     teacherName: string;
+    schoolName: string;
+    schoolId?: number;
   },
   { rejectValue: string }
 >('signup/signupTeacher', async (payload, { rejectWithValue }) => {
@@ -45,8 +47,10 @@ export const signupTeacher = createAsyncThunk<
       data: error.response?.data,
     });
 
+    // 서버 오류 응답은 문자열 본문 (학교 후보 안내 등)
+    const data = error.response?.data;
     return rejectWithValue(
-      error.response?.data?.message || '교사 회원가입 실패'
+      (typeof data === 'string' && data) || data?.message || '교사 회원가입 실패'
     );
   }
 });